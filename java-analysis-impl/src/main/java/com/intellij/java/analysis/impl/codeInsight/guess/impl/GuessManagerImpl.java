@@ -189,12 +189,14 @@ public final class GuessManagerImpl extends GuessManager {
     }
 
     private static DataFlowRunner createRunner(boolean honorAssignments, PsiElement scope) {
-        return honorAssignments ? new DataFlowRunner(scope.getProject()) : new DataFlowRunner(scope.getProject()) {
+        DataFlowRunner runner = honorAssignments ? new DataFlowRunner(scope.getProject()) : new DataFlowRunner(scope.getProject()) {
             @Override
             protected DfaMemoryState createMemoryState() {
                 return new AssignmentFilteringMemoryState(getFactory());
             }
         };
+        runner.setMetricsClientId("GuessManager");
+        return runner;
     }
 
     private static PsiElement getTopmostBlock(PsiElement scope) {
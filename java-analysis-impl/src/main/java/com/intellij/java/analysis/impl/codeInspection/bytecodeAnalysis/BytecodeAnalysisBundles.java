@@ -0,0 +1,213 @@
+package com.intellij.java.analysis.impl.codeInspection.bytecodeAnalysis;
+
+import com.intellij.java.language.impl.JavaClassFileType;
+import consulo.virtualFileSystem.VirtualFile;
+
+import org.jspecify.annotations.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.util.*;
+
+import static com.intellij.java.analysis.impl.codeInspection.bytecodeAnalysis.ProjectBytecodeAnalysis.LOG;
+
+/**
+ * Precomputed bytecode inference results which can be prepared once (e.g. for CI agents or fresh installations)
+ * to skip the analysis of the class files they cover.
+ * <p>
+ * A bundle maps the digest of the class file content to the equations {@link ClassDataIndexer} computes for it,
+ * so it stays valid for the same class file regardless of the jar it's packed into. Bundles are written by
+ * {@link #export(VirtualFile, Path)} and loaded from the directory specified by {@value #BUNDLES_DIRECTORY_PROPERTY}
+ * system property. Bundles written by another version of the inference algorithm are ignored.
+ * <p>
+ * A bundle is named by the hash of its content, i.e. of the class files it covers and the algorithm version, so bundles
+ * of different jars never collide, and an existing bundle is never rewritten: the loaded entries point into the files.
+ * <p>
+ * Only the digests and the positions of the entries are kept in memory, the equations are read from the bundle file
+ * when a class file is indexed, and the result is then cached by the index itself.
+ */
+public final class BytecodeAnalysisBundles {
+  public static final String BUNDLES_DIRECTORY_PROPERTY = "java.bytecode.analysis.bundles";
+  public static final String BUNDLE_EXTENSION = "bab";
+  private static final int MAGIC = 0xBABE_0001;
+
+  private static final class Holder {
+    // class file digest -> position of the serialized equations
+    static final Map<ByteBuffer, Entry> ENTRIES = loadBundles();
+  }
+
+  private static final class Entry {
+    private final Path myBundle;
+    private final long myOffset;
+    private final int myLength;
+
+    private Entry(Path bundle, long offset, int length) {
+      myBundle = bundle;
+      myOffset = offset;
+      myLength = length;
+    }
+
+    private byte[] read() throws IOException {
+      ByteBuffer buffer = ByteBuffer.allocate(myLength);
+      try (FileChannel channel = FileChannel.open(myBundle)) {
+        while (buffer.hasRemaining()) {
+          if (channel.read(buffer, myOffset + buffer.position()) < 0) {
+            throw new EOFException("Truncated bytecode analysis bundle " + myBundle);
+          }
+        }
+      }
+      return buffer.array();
+    }
+  }
+
+  private BytecodeAnalysisBundles() {
+  }
+
+  /**
+   * @param content class file content
+   * @return equations for the class file if they are present in one of the loaded bundles, null otherwise
+   */
+  @Nullable
+  static Map<HMember, Equations> findEquations(byte[] content) throws IOException {
+    String directory = System.getProperty(BUNDLES_DIRECTORY_PROPERTY);
+    if (directory == null) {
+      return null;
+    }
+    Entry entry = Holder.ENTRIES.get(ByteBuffer.wrap(BytecodeAnalysisConverter.getMessageDigest().digest(content)));
+    if (entry == null) {
+      return null;
+    }
+    return new BytecodeAnalysisIndex.EquationsExternalizer().read(new DataInputStream(new ByteArrayInputStream(entry.read())));
+  }
+
+  /**
+   * Analyzes all the class files under given root (usually a jar root) and writes the results into a new bundle file
+   * in the directory, unless a bundle with the same content is already there.
+   *
+   * @param root      root to export the analysis results for
+   * @param directory bundles directory
+   * @return number of class files in the bundle
+   */
+  public static int export(VirtualFile root, Path directory) throws IOException {
+    // sorted by digest, so the same class files always produce the same bundle
+    Map<ByteBuffer, byte[]> entries = new TreeMap<>();
+    collectEntries(root, entries);
+    if (entries.isEmpty()) {
+      return 0;
+    }
+
+    MessageDigest md = BytecodeAnalysisConverter.getMessageDigest();
+    md.update(ByteBuffer.allocate(Integer.BYTES).putInt(ClassDataIndexer.FINAL_VERSION).array());
+    for (ByteBuffer digest : entries.keySet()) {
+      md.update(digest.array());
+    }
+    Path bundle = directory.resolve(HexFormat.of().formatHex(md.digest()) + "." + BUNDLE_EXTENSION);
+    if (Files.exists(bundle)) {
+      return entries.size();
+    }
+
+    Path temp = Files.createTempFile(directory, "bundle", ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(ClassDataIndexer.FINAL_VERSION);
+        out.writeInt(entries.size());
+        for (Map.Entry<ByteBuffer, byte[]> entry : entries.entrySet()) {
+          byte[] digest = entry.getKey().array();
+          out.writeShort(digest.length);
+          out.write(digest);
+          out.writeInt(entry.getValue().length);
+          out.write(entry.getValue());
+        }
+      }
+      publish(temp, bundle);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+    return entries.size();
+  }
+
+  /**
+   * Moves the written bundle into place without replacing a bundle exported concurrently, which may be loaded already
+   */
+  private static void publish(Path temp, Path bundle) throws IOException {
+    try {
+      // atomically fails if the bundle exists, the temp file is deleted by the caller
+      Files.createLink(bundle, temp);
+    } catch (FileAlreadyExistsException e) {
+      // the same content was exported concurrently
+    } catch (UnsupportedOperationException | IOException e) {
+      // no hard links on this file system: a rename within the directory, which refuses to replace an existing bundle
+      try {
+        Files.move(temp, bundle);
+      } catch (FileAlreadyExistsException ignored) {
+      }
+    }
+  }
+
+  private static void collectEntries(VirtualFile file, Map<ByteBuffer, byte[]> entries) throws IOException {
+    if (file.isDirectory()) {
+      for (VirtualFile child : file.getChildren()) {
+        collectEntries(child, entries);
+      }
+      return;
+    }
+    if (file.getFileType() != JavaClassFileType.INSTANCE || ClassDataIndexer.isFileExcluded(file)) {
+      return;
+    }
+    byte[] content = file.contentsToByteArray(false);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    new BytecodeAnalysisIndex.EquationsExternalizer().save(
+        new DataOutputStream(stream), ClassDataIndexer.analyzeClassFile(content, file.getPresentableUrl()));
+    entries.put(ByteBuffer.wrap(BytecodeAnalysisConverter.getMessageDigest().digest(content)), stream.toByteArray());
+  }
+
+  private static Map<ByteBuffer, Entry> loadBundles() {
+    Map<ByteBuffer, Entry> result = new HashMap<>();
+    String directory = System.getProperty(BUNDLES_DIRECTORY_PROPERTY);
+    if (directory == null) {
+      return result;
+    }
+    try (DirectoryStream<Path> bundles = Files.newDirectoryStream(Paths.get(directory), "*." + BUNDLE_EXTENSION)) {
+      for (Path bundle : bundles) {
+        loadBundle(bundle, result);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Cannot load bytecode analysis bundles from " + directory, e);
+    }
+    return result;
+  }
+
+  private static void loadBundle(Path bundle, Map<ByteBuffer, Entry> result) {
+    Map<ByteBuffer, Entry> entries = new HashMap<>();
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(bundle)))) {
+      if (in.readInt() != MAGIC) {
+        LOG.warn("Not a bytecode analysis bundle: " + bundle);
+        return;
+      }
+      int version = in.readInt();
+      if (version != ClassDataIndexer.FINAL_VERSION) {
+        LOG.info("Bytecode analysis bundle " + bundle + " has version " + version + ", expected " + ClassDataIndexer.FINAL_VERSION);
+        return;
+      }
+      int count = in.readInt();
+      // magic, version and count
+      long offset = 3 * Integer.BYTES;
+      for (int i = 0; i < count; i++) {
+        byte[] digest = new byte[in.readUnsignedShort()];
+        in.readFully(digest);
+        int length = in.readInt();
+        offset += Short.BYTES + digest.length + Integer.BYTES;
+        in.skipNBytes(length);
+        entries.put(ByteBuffer.wrap(digest), new Entry(bundle, offset, length));
+        offset += length;
+      }
+    } catch (IOException e) {
+      LOG.warn("Cannot load bytecode analysis bundle " + bundle, e);
+      return;
+    }
+    result.putAll(entries);
+  }
+}
@@ -22,8 +22,10 @@ import org.jspecify.annotations.Nullable;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.*;
 import java.util.stream.Stream;
@@ -53,23 +55,21 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
 
   private static final int VERSION = 12; // change when inference algorithm changes
   private static final int VERSION_MODIFIER = HardCodedPurity.AGGRESSIVE_HARDCODED_PURITY ? 1 : 0;
-  private static final int FINAL_VERSION = VERSION * 2 + VERSION_MODIFIER;
+  static final int FINAL_VERSION = VERSION * 2 + VERSION_MODIFIER;
   private static final VirtualFileGist<Map<HMember, Equations>> ourGist = GistManager.getInstance().newVirtualFileGist(
       "BytecodeAnalysisIndex", FINAL_VERSION, new BytecodeAnalysisIndex.EquationsExternalizer(), new ClassDataIndexer());
 
   @Nullable
   @Override
   public Map<HMember, Equations> apply(Project project, VirtualFile file) {
-    HashMap<HMember, Equations> map = new HashMap<>();
+    Map<HMember, Equations> map = new HashMap<>();
     if (isFileExcluded(file)) {
       return map;
     }
     try {
-      MessageDigest md = BytecodeAnalysisConverter.getMessageDigest();
-      ClassReader reader = new ClassReader(file.contentsToByteArray(false));
-      Map<EKey, Equations> allEquations = processClass(reader, file.getPresentableUrl());
-      allEquations = solvePartially(reader.getClassName(), allEquations);
-      allEquations.forEach((methodKey, equations) -> map.merge(methodKey.member.hashed(md), hash(equations, md), MERGER));
+      byte[] content = file.contentsToByteArray(false);
+      Map<HMember, Equations> precomputed = BytecodeAnalysisBundles.findEquations(content);
+      map = precomputed != null ? precomputed : analyzeClassFile(content, file.getPresentableUrl());
     } catch (ProcessCanceledException e) {
       throw e;
     } catch (Throwable e) {
@@ -81,6 +81,16 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
     return map;
   }
 
+  static Map<HMember, Equations> analyzeClassFile(byte[] content, String presentableUrl) {
+    HashMap<HMember, Equations> map = new HashMap<>();
+    MessageDigest md = BytecodeAnalysisConverter.getMessageDigest();
+    ClassReader reader = new ClassReader(content);
+    Map<EKey, Equations> allEquations = processClass(reader, presentableUrl);
+    allEquations = solvePartially(reader.getClassName(), allEquations);
+    allEquations.forEach((methodKey, equations) -> map.merge(methodKey.member.hashed(md), hash(equations, md), MERGER));
+    return map;
+  }
+
   /**
    * Returns true if file must be excluded from the analysis for some reason (e.g. it's known stub
    * jar which will be replaced in runtime).
@@ -155,15 +165,65 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
     return new Equations(compressedMethodEquations, methodKey.stable);
   }
 
+  /**
+   * Pending states, actions and results shared by all the analyses of a class.
+   * Analyses are designed in such a way that they first write to states/actions/results and then read only those portion
+   * of states/actions/results which were written by the current pass of the analysis.
+   * Since states/actions/results are quite expensive to create (32K array), they are reused between classes.
+   * The pool holds at most one set per processor, since that many classes may be analyzed at once by the indexing threads.
+   * Free sets are softly reachable, so they are not kept when memory is low, and they are not bound to any thread.
+   */
+  private static final class AnalysisBuffers {
+    private static final Queue<SoftReference<AnalysisBuffers>> ourPool =
+        new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    final State[] pendingStates = new State[Analysis.STEPS_LIMIT];
+    final PendingAction[] pendingActions = new PendingAction[Analysis.STEPS_LIMIT];
+    final PResults.PResult[] results = new PResults.PResult[Analysis.STEPS_LIMIT];
+    private int myResultsCount;
+
+    static AnalysisBuffers acquire() {
+      SoftReference<AnalysisBuffers> ref;
+      while ((ref = ourPool.poll()) != null) {
+        AnalysisBuffers buffers = ref.get();
+        if (buffers != null) {
+          return buffers;
+        }
+      }
+      return new AnalysisBuffers();
+    }
+
+    void recordResults(int count) {
+      myResultsCount = Math.max(myResultsCount, count);
+    }
+
+    void release() {
+      // Do not retain the analysis data of the processed class.
+      // Pending states and actions are stacks, so the written slots are a prefix ending at the first null.
+      clearPrefix(pendingStates);
+      clearPrefix(pendingActions);
+      Arrays.fill(results, 0, Math.min(myResultsCount, results.length), null);
+      myResultsCount = 0;
+      ourPool.offer(new SoftReference<>(this));
+    }
+
+    private static void clearPrefix(Object[] array) {
+      for (int i = 0; i < array.length && array[i] != null; i++) {
+        array[i] = null;
+      }
+    }
+  }
+
   public static Map<EKey, Equations> processClass(final ClassReader classReader, final String presentableUrl) {
+    AnalysisBuffers buffers = AnalysisBuffers.acquire();
+    try {
+      return processClass(classReader, presentableUrl, buffers);
+    } finally {
+      buffers.release();
+    }
+  }
 
-    // It is OK to share pending states, actions and results for analyses.
-    // Analyses are designed in such a way that they first write to states/actions/results and then read only those portion
-    // of states/actions/results which were written by the current pass of the analysis.
-    // Since states/actions/results are quite expensive to create (32K array) for each analysis, we create them once per class analysis.
-    final State[] sharedPendingStates = new State[Analysis.STEPS_LIMIT];
-    final PendingAction[] sharedPendingActions = new PendingAction[Analysis.STEPS_LIMIT];
-    final PResults.PResult[] sharedResults = new PResults.PResult[Analysis.STEPS_LIMIT];
+  private static Map<EKey, Equations> processClass(ClassReader classReader, String presentableUrl, AnalysisBuffers buffers) {
     final Map<EKey, Equations> equations = new HashMap<>();
 
     registerVolatileFields(equations, classReader);
@@ -179,7 +239,8 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
     }
 
     classReader.accept(
-        new MethodAnalysisVisitor(equations, presentableUrl, sharedPendingStates, sharedPendingActions, sharedResults, staticFinalFields), ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        new MethodAnalysisVisitor(equations, presentableUrl, buffers, staticFinalFields),
+        ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
 
     return equations;
   }
@@ -249,18 +310,19 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
     private final State[] mySharedPendingStates;
     private final PendingAction[] mySharedPendingActions;
     private final PResults.PResult[] mySharedResults;
+    private final AnalysisBuffers myBuffers;
     private final Set<Member> myStaticFinalFields;
 
     private MethodAnalysisVisitor(Map<EKey, Equations> equations,
                                   String presentableUrl,
-                                  State[] sharedPendingStates,
-                                  PendingAction[] sharedPendingActions,
-                                  PResults.PResult[] sharedResults, Set<Member> staticFinalFields) {
+                                  AnalysisBuffers buffers,
+                                  Set<Member> staticFinalFields) {
       myEquations = equations;
       myPresentableUrl = presentableUrl;
-      mySharedPendingStates = sharedPendingStates;
-      mySharedPendingActions = sharedPendingActions;
-      mySharedResults = sharedResults;
+      mySharedPendingStates = buffers.pendingStates;
+      mySharedPendingActions = buffers.pendingActions;
+      mySharedResults = buffers.results;
+      myBuffers = buffers;
       myStaticFinalFields = staticFinalFields;
     }
 
@@ -520,7 +582,12 @@ public class ClassDataIndexer implements BiFunction<Project, VirtualFile,Map<HMe
           if (leakingParameters[i]) {
             NonNullInAnalysis notNullInAnalysis =
                 new NonNullInAnalysis(richControlFlow, new In(i, false), stable, mySharedPendingActions, mySharedResults);
-            Equation notNullParamEquation = notNullInAnalysis.analyze();
+            Equation notNullParamEquation;
+            try {
+              notNullParamEquation = notNullInAnalysis.analyze();
+            } finally {
+              myBuffers.recordResults(notNullInAnalysis.getResultsCount());
+            }
             possibleNPE = notNullInAnalysis.possibleNPE;
             notNullParam = notNullParamEquation.result.equals(Value.NotNull);
             result.add(notNullParamEquation);
@@ -85,6 +85,14 @@ class NonNullInAnalysis extends Analysis<PResult>
 	private Frame<BasicValue> nextFrame;
 	private PResult subResult;
 
+	/**
+	 * @return the number of leading {@code results} slots this analysis may have written
+	 */
+	int getResultsCount()
+	{
+		return id + 1;
+	}
+
 	@Override
 	protected Equation analyze() throws AnalyzerException
 	{
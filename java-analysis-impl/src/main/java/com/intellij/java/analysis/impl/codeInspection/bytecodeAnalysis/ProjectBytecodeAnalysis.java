@@ -63,11 +63,13 @@ public class ProjectBytecodeAnalysis {
   public static final Logger LOG = Logger.getInstance("#com.intellij.codeInspection.bytecodeAnalysis");
   public static final String NULLABLE_METHOD = "java.annotations.inference.nullable.method";
   public static final String NULLABLE_METHOD_TRANSITIVITY = "java.annotations.inference.nullable.method.transitivity";
+  public static final String EQUATIONS_LIMIT_KEY = "java.annotations.inference.equations.limit";
   public static final int EQUATIONS_LIMIT = 1000;
 
   private final Project myProject;
   private final boolean nullableMethod;
   private final boolean nullableMethodTransitivity;
+  private final int equationsLimit;
   private final EquationProvider<?> myEquationProvider;
   private final NullableNotNullManager myNullabilityManager;
 
@@ -82,6 +84,7 @@ public class ProjectBytecodeAnalysis {
     myEquationProvider = SKIP_INDEX ? new PlainEquationProvider(myProject) : new IndexedEquationProvider(myProject);
     nullableMethod = Registry.is(NULLABLE_METHOD, false);
     nullableMethodTransitivity = Registry.is(NULLABLE_METHOD_TRANSITIVITY, true);
+    equationsLimit = Registry.intValue(EQUATIONS_LIMIT_KEY, EQUATIONS_LIMIT);
   }
 
   @Nullable
@@ -344,7 +347,7 @@ public class ProjectBytecodeAnalysis {
     queued.add(key);
 
     while (!queue.isEmpty()) {
-      if (queued.size() > EQUATIONS_LIMIT) {
+      if (queued.size() > equationsLimit) {
         throw new EquationsLimitException();
       }
       ProgressManager.checkCanceled();
@@ -377,7 +380,7 @@ public class ProjectBytecodeAnalysis {
     }
 
     while (!queue.empty()) {
-      if (queued.size() > EQUATIONS_LIMIT) {
+      if (queued.size() > equationsLimit) {
         throw new EquationsLimitException();
       }
       ProgressManager.checkCanceled();
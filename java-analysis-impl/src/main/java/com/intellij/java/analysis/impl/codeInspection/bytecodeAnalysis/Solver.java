@@ -16,18 +16,29 @@
 package com.intellij.java.analysis.impl.codeInspection.bytecodeAnalysis;
 
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Stack;
+import consulo.util.collection.primitive.ints.IntList;
+import consulo.util.collection.primitive.ints.IntLists;
+import consulo.util.collection.primitive.objects.ObjectIntMap;
+import consulo.util.collection.primitive.objects.ObjectMaps;
 
+import java.util.*;
+
+/**
+ * Equation keys taking part in the solving are interned into dense ints (starting from 1),
+ * so that dependencies, pending and solved values are stored in the int-indexed arrays rather than in the hash maps.
+ */
 final class Solver
 {
 	private final ELattice<Value> lattice;
-	private final HashMap<EKey, HashSet<EKey>> dependencies = new HashMap<>();
-	private final HashMap<EKey, Pending> pending = new HashMap<>();
-	private final HashMap<EKey, Value> solved = new HashMap<>();
-	private final Stack<EKey> moving = new Stack<>();
+	private final ObjectIntMap<EKey> keyIds = ObjectMaps.newObjectIntHashMap();
+	private EKey[] keys = new EKey[16];
+	private int keyCount = 0;
+	// key id -> ids of the keys whose pending equations mention it
+	private IntList[] dependencies = new IntList[16];
+	private Pending[] pending = new Pending[16];
+	private Value[] solved = new Value[16];
+	private int[] moving = new int[16];
+	private int movingSize = 0;
 
 	private final ResultUtil resultUtil;
 	private final HashMap<CoreHKey, Equation> equations = new HashMap<>();
@@ -64,13 +75,49 @@ final class Solver
 		}
 	}
 
+	private int intern(EKey key)
+	{
+		int id = keyIds.getInt(key);
+		if(id != 0)
+		{
+			return id;
+		}
+		id = ++keyCount;
+		if(id == keys.length)
+		{
+			int newLength = keys.length * 2;
+			keys = Arrays.copyOf(keys, newLength);
+			dependencies = Arrays.copyOf(dependencies, newLength);
+			pending = Arrays.copyOf(pending, newLength);
+			solved = Arrays.copyOf(solved, newLength);
+		}
+		keys[id] = key;
+		keyIds.putInt(key, id);
+		return id;
+	}
+
+	private int findId(EKey key)
+	{
+		return keyIds.getInt(key);
+	}
+
+	private void markSolved(int id, Value value)
+	{
+		solved[id] = value;
+		if(movingSize == moving.length)
+		{
+			moving = Arrays.copyOf(moving, movingSize * 2);
+		}
+		moving[movingSize++] = id;
+	}
+
 	void queueEquation(Equation equation)
 	{
 		Result rhs = equation.result;
+		int id = intern(equation.key);
 		if(rhs instanceof Value)
 		{
-			solved.put(equation.key, (Value) rhs);
-			moving.push(equation.key);
+			markSolved(id, (Value) rhs);
 		}
 		else if(rhs instanceof Pending)
 		{
@@ -78,26 +125,28 @@ final class Solver
 			Result norm = normalize(pendResult.delta);
 			if(norm instanceof Value)
 			{
-				solved.put(equation.key, (Value) norm);
-				moving.push(equation.key);
+				markSolved(id, (Value) norm);
 			}
 			else
 			{
 				Pending pendResult1 = ((Pending) rhs).copy();
+				Set<EKey> triggers = new HashSet<>();
 				for(Component component : pendResult1.delta)
 				{
-					for(EKey trigger : component.ids)
+					Collections.addAll(triggers, component.ids);
+				}
+				for(EKey trigger : triggers)
+				{
+					int triggerId = intern(trigger);
+					IntList list = dependencies[triggerId];
+					if(list == null)
 					{
-						HashSet<EKey> set = dependencies.get(trigger);
-						if(set == null)
-						{
-							set = new HashSet<>();
-							dependencies.put(trigger, set);
-						}
-						set.add(equation.key);
+						list = IntLists.newArrayList();
+						dependencies[triggerId] = list;
 					}
+					list.add(id);
 				}
-				pending.put(equation.key, pendResult1);
+				pending[id] = pendResult1;
 			}
 		}
 	}
@@ -121,10 +170,11 @@ final class Solver
 		{
 			queueEquation(equation);
 		}
-		while(!moving.empty())
+		while(movingSize > 0)
 		{
-			EKey id = moving.pop();
-			Value value = solved.get(id);
+			int movingId = moving[--movingSize];
+			EKey id = keys[movingId];
+			Value value = solved[movingId];
 
 			EKey[] initialPIds = id.stable ? new EKey[]{
 					id,
@@ -158,32 +208,42 @@ final class Solver
 			{
 				EKey pId = pIds[i];
 				Value pVal = pVals[i];
-				HashSet<EKey> dIds = dependencies.get(pId);
+				int pIntId = findId(pId);
+				IntList dIds = pIntId == 0 ? null : dependencies[pIntId];
 				if(dIds == null)
 				{
 					continue;
 				}
-				for(EKey dId : dIds)
+				for(int j = 0; j < dIds.size(); j++)
 				{
-					Pending pend = pending.remove(dId);
+					int dId = dIds.get(j);
+					Pending pend = pending[dId];
 					if(pend != null)
 					{
+						pending[dId] = null;
 						Result pend1 = substitute(pend, pId, pVal);
 						if(pend1 instanceof Value)
 						{
-							solved.put(dId, (Value) pend1);
-							moving.push(dId);
+							markSolved(dId, (Value) pend1);
 						}
 						else
 						{
-							pending.put(dId, (Pending) pend1);
+							pending[dId] = (Pending) pend1;
 						}
 					}
 				}
 			}
 		}
-		pending.clear();
-		return solved;
+		Map<EKey, Value> result = new HashMap<>();
+		for(int id = 1; id <= keyCount; id++)
+		{
+			pending[id] = null;
+			if(solved[id] != null)
+			{
+				result.put(keys[id], solved[id]);
+			}
+		}
+		return result;
 	}
 
 	// substitute id -> value into pending
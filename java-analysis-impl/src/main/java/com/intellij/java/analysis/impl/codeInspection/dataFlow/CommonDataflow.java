@@ -7,17 +7,25 @@ import com.intellij.java.analysis.impl.codeInspection.dataFlow.types.*;
 import com.intellij.java.analysis.impl.codeInspection.dataFlow.value.DfaTypeValue;
 import com.intellij.java.analysis.impl.codeInspection.dataFlow.value.DfaValue;
 import com.intellij.java.analysis.impl.codeInspection.dataFlow.value.DfaVariableValue;
+import com.intellij.java.language.codeInsight.NullableNotNullManager;
 import com.intellij.java.language.impl.psi.impl.ConstantExpressionEvaluator;
 import com.intellij.java.language.psi.*;
 import com.intellij.java.language.psi.util.PsiUtil;
 import com.intellij.java.language.util.JavaPsiConstructorUtil;
 import com.siyeh.ig.psiutils.ExpressionUtils;
 import consulo.application.util.CachedValueProvider;
+import consulo.component.util.ModificationTracker;
 import consulo.document.util.TextRange;
+import consulo.language.psi.PsiCompiledElement;
+import consulo.language.psi.PsiDirectory;
 import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
 import consulo.language.psi.PsiModificationTracker;
+import consulo.language.psi.SyntaxTraverser;
 import consulo.language.psi.util.LanguageCachedValueUtil;
 import consulo.language.psi.util.PsiTreeUtil;
+import consulo.project.Project;
+import consulo.project.content.ProjectRootModificationTracker;
 import consulo.util.lang.ThreeState;
 import one.util.streamex.StreamEx;
 import org.jetbrains.annotations.Contract;
@@ -31,6 +39,16 @@ import java.util.concurrent.RejectedExecutionException;
 import static com.intellij.java.analysis.impl.codeInspection.dataFlow.DfaUtil.hasImplicitImpureSuperCall;
 
 public final class CommonDataflow {
+  /**
+   * Maximal number of source declarations the analyzed block may depend on to be eligible for reuse of the previous result
+   */
+  private static final int MAX_FINGERPRINT_DEPENDENCIES = 50;
+  /**
+   * Maximal total length of the texts hashed (and of the references resolved) for a fingerprint. Above it computing the
+   * fingerprint on every modification is no longer obviously cheaper than re-running the analysis, so the result is not reused.
+   */
+  private static final int MAX_FINGERPRINT_TEXT_LENGTH = 32 * 1024;
+
   private static class DataflowPoint {
     DfType myDfType = DfTypes.BOTTOM;
     // empty = top; null = bottom
@@ -100,6 +118,14 @@ public final class CommonDataflow {
       myResult = result;
     }
 
+    /**
+     * @return true if all the expressions this result refers to are still valid, so the result could be reused
+     */
+    boolean isValid() {
+      return myData.keySet().stream().allMatch(PsiElement::isValid) &&
+             (myData == myDataAssertionsDisabled || myDataAssertionsDisabled.keySet().stream().allMatch(PsiElement::isValid));
+    }
+
     DataflowResult copy() {
       DataflowResult copy = new DataflowResult(myResult);
       myData.forEach((expression, point) -> copy.myData.put(expression, new DataflowPoint(point)));
@@ -214,11 +240,174 @@ public final class CommonDataflow {
     }
   }
 
+  private static final class FingerprintedResult {
+    private final long myFingerprint;
+    private final DataflowResult myResult;
+
+    private FingerprintedResult(long fingerprint, DataflowResult result) {
+      myFingerprint = fingerprint;
+      myResult = result;
+    }
+  }
+
+  /**
+   * Returns the dataflow result for the block reusing the result computed for the previous PSI modification
+   * if neither the block nor the source declarations it depends on were changed since then.
+   * <p>
+   * The results are dropped on java structure changes, which also cover external annotations, so only the edits inside
+   * code blocks are checked with the fingerprint.
+   */
+  private static DataflowResult computeOrReuseDataflowResult(PsiElement block) {
+    PsiFile file = block.getContainingFile();
+    Project project = file.getProject();
+    PsiModificationTracker psiTracker = PsiModificationTracker.getInstance(project);
+    ModificationTracker javaStructureTracker = psiTracker::getJavaStructureModificationCount;
+    ConcurrentHashMap<PsiElement, FingerprintedResult> previousResults =
+        LanguageCachedValueUtil.getCachedValue(file, () ->
+            CachedValueProvider.Result.create(new ConcurrentHashMap<>(), ProjectRootModificationTracker.getInstance(project), javaStructureTracker));
+    Long fingerprint = computeFingerprint(block);
+    if (fingerprint != null) {
+      FingerprintedResult previous = previousResults.get(block);
+      if (previous != null && previous.myFingerprint == fingerprint && previous.myResult.isValid()) {
+        return previous.myResult;
+      }
+    }
+    DataflowResult result = runDFA(block);
+    previousResults.keySet().removeIf(element -> !element.isValid());
+    if (fingerprint == null) {
+      previousResults.remove(block);
+    } else {
+      previousResults.put(block, new FingerprintedResult(fingerprint, result));
+    }
+    return result;
+  }
+
+  /**
+   * Computes the hash of the block text combined with the text of the source declarations it (transitively) refers to:
+   * methods and fields are hashed with their bodies and initializers, classes with their headers and package-info.
+   * For a class block only the parts analyzed together (fields, initializers and constructors) are taken,
+   * so editing a method body does not invalidate the class-level result unless the method is called from a constructor.
+   * Methods also depend on the methods they override (inherited nullability and contracts), final fields on the
+   * constructors and initializers of their class (inferred nullability), everything on the nullability settings.
+   *
+   * @param block block to compute the fingerprint for
+   * @return the fingerprint or null if the block depends on too many source declarations or too much text
+   */
+  @Nullable
+  private static Long computeFingerprint(PsiElement block) {
+    Set<PsiElement> visited = new HashSet<>();
+    Deque<PsiElement> queue = new ArrayDeque<>();
+    long hash = hashNullabilitySettings(NullableNotNullManager.getInstance(block.getProject()));
+    if (block instanceof PsiClass) {
+      PsiClass psiClass = (PsiClass) block;
+      visited.add(psiClass);
+      hash = hash * 31 + hashClassHeader(psiClass);
+      StreamEx.<PsiElement>of(psiClass.getFields())
+          .append(psiClass.getInitializers())
+          .append(psiClass.getConstructors())
+          .filter(visited::add)
+          .forEach(queue::add);
+    } else {
+      PsiElement root = block.getParent() instanceof PsiMethod ? block.getParent() : block;
+      visited.add(root);
+      queue.add(root);
+    }
+    int dependencies = 0;
+    int textLength = 0;
+    while (!queue.isEmpty()) {
+      PsiElement element = queue.poll();
+      textLength += element.getTextLength();
+      if (textLength > MAX_FINGERPRINT_TEXT_LENGTH) {
+        return null;
+      }
+      hash = hash * 31 + hashText(element.getText());
+      PsiClass containingClass = element instanceof PsiMember ? ((PsiMember) element).getContainingClass() : null;
+      if (containingClass != null) {
+        hash = hash * 31 + hashClassHeader(containingClass);
+      }
+      List<PsiElement> targets = new ArrayList<>();
+      for (PsiJavaCodeReferenceElement ref : SyntaxTraverser.psiTraverser(element).filter(PsiJavaCodeReferenceElement.class)) {
+        targets.add(ref.resolve());
+      }
+      if (element instanceof PsiMethod) {
+        targets.addAll(Arrays.asList(((PsiMethod) element).findSuperMethods()));
+      }
+      for (PsiElement target : targets) {
+        if (!isSourceDependency(target) || !visited.add(target)) {
+          continue;
+        }
+        if (++dependencies > MAX_FINGERPRINT_DEPENDENCIES) {
+          return null;
+        }
+        if (target instanceof PsiClass) {
+          hash = hash * 31 + hashClassHeader((PsiClass) target);
+        } else if (target instanceof PsiMethod || target instanceof PsiField) {
+          queue.add(target);
+        }
+        PsiClass fieldClass = target instanceof PsiField && ((PsiField) target).hasModifierProperty(PsiModifier.FINAL)
+            ? ((PsiField) target).getContainingClass() : null;
+        if (fieldClass != null) {
+          // nullability of a final field is inferred from its initialization
+          for (PsiElement initialization : StreamEx.<PsiElement>of(fieldClass.getConstructors()).append(fieldClass.getInitializers())) {
+            if (visited.add(initialization)) {
+              if (++dependencies > MAX_FINGERPRINT_DEPENDENCIES) {
+                return null;
+              }
+              queue.add(initialization);
+            }
+          }
+        }
+      }
+    }
+    return hash;
+  }
+
+  @Contract("null -> false")
+  private static boolean isSourceDependency(@Nullable PsiElement target) {
+    return target != null && !(target instanceof PsiCompiledElement) && target.isPhysical();
+  }
+
+  private static long hashClassHeader(PsiClass psiClass) {
+    long hash = 0;
+    for (PsiElement part : new PsiElement[]{psiClass.getModifierList(), psiClass.getExtendsList(), psiClass.getImplementsList()}) {
+      hash = hash * 31 + (part == null ? 0 : hashText(part.getText()));
+    }
+    // package level nullability defaults
+    PsiFile file = psiClass.getContainingFile();
+    PsiDirectory directory = file == null ? null : file.getContainingDirectory();
+    PsiFile packageInfo = directory == null ? null : directory.findFile(PsiJavaPackage.PACKAGE_INFO_FILE);
+    if (packageInfo != null) {
+      hash = hash * 31 + hashText(packageInfo.getText());
+    }
+    return hash;
+  }
+
+  private static long hashNullabilitySettings(NullableNotNullManager manager) {
+    long hash = 0;
+    for (List<String> annotations : List.of(manager.getNullables(), manager.getNotNulls(), manager.getInstrumentedNotNulls())) {
+      hash = hash * 31 + annotations.hashCode();
+    }
+    hash = hash * 31 + Objects.hashCode(manager.getDefaultNullable());
+    hash = hash * 31 + Objects.hashCode(manager.getDefaultNotNull());
+    return hash;
+  }
+
+  private static long hashText(CharSequence text) {
+    // 64-bit FNV-1a
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < text.length(); i++) {
+      hash ^= text.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
   private static DataflowResult runDFA(@Nullable PsiElement block) {
     if (block == null) {
       return new DataflowResult(RunnerResult.NOT_APPLICABLE);
     }
     DataFlowRunner runner = new DataFlowRunner(block.getProject(), block, false, ThreeState.UNSURE);
+    runner.setMetricsClientId("CommonDataflow");
     CommonDataflowVisitor visitor = new CommonDataflowVisitor();
     RunnerResult result = runner.analyzeMethodRecursively(block, visitor);
     if (result != RunnerResult.OK) {
@@ -270,7 +459,7 @@ public final class CommonDataflow {
 
       @Override
       public boolean block() {
-        myResult = fileMap.computeIfAbsent(body, CommonDataflow::runDFA);
+        myResult = fileMap.computeIfAbsent(body, CommonDataflow::computeOrReuseDataflowResult);
         return true;
       }
 
@@ -151,6 +151,7 @@ public final class ContractChecker {
         }
 
         DataFlowRunner runner = new DataFlowRunner(method.getProject(), null);
+        runner.setMetricsClientId("ContractChecker");
 
         PsiParameter[] parameters = method.getParameterList().getParameters();
         DfaMemoryState initialState = runner.createMemoryState();
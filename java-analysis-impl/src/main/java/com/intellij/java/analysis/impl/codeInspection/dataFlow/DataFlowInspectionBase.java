@@ -25,6 +25,8 @@ import com.siyeh.ig.fixes.EqualsToEqualityFix;
 import com.siyeh.ig.psiutils.*;
 import consulo.annotation.access.RequiredReadAction;
 import consulo.application.Application;
+import consulo.application.progress.ProgressIndicatorProvider;
+import consulo.application.util.concurrent.JobLauncher;
 import consulo.application.util.registry.Registry;
 import consulo.java.analysis.localize.JavaAnalysisLocalize;
 import consulo.language.ast.IElementType;
@@ -33,6 +35,8 @@ import consulo.language.editor.inspection.localize.InspectionLocalize;
 import consulo.language.editor.intention.BaseIntentionAction;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiElementVisitor;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.SyntaxTraverser;
 import consulo.language.psi.util.PsiTreeUtil;
 import consulo.language.util.IncorrectOperationException;
 import consulo.localize.LocalizeValue;
@@ -47,6 +51,7 @@ import one.util.streamex.StreamEx;
 import org.jetbrains.annotations.Contract;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,7 +70,12 @@ public abstract class DataFlowInspectionBase extends AbstractBaseJavaLocalInspec
         LocalInspectionToolSession session,
         DataFlowInspectionStateBase state
     ) {
+        // incremental highlighting visits only the changed member, so analyzing the whole file makes sense in batch runs only
+        boolean concurrent = !isOnTheFly && Registry.is("ide.dfa.concurrent.analysis", false);
         return new JavaElementVisitor() {
+            @Nullable
+            private volatile Map<PsiMember, List<ProblemDescriptor>> myConcurrentResults;
+
             @Override
             @RequiredReadAction
             public void visitClass(PsiClass aClass) {
@@ -75,32 +85,8 @@ public abstract class DataFlowInspectionBase extends AbstractBaseJavaLocalInspec
                 if (PsiUtil.isLocalOrAnonymousClass(aClass) && !(aClass instanceof PsiEnumConstantInitializer)) {
                     return;
                 }
-
-                DataFlowRunner runner = new DataFlowRunner(
-                    holder.getProject(),
-                    aClass,
-                    state.TREAT_UNKNOWN_MEMBERS_AS_NULLABLE,
-                    ThreeState.fromBoolean(state.IGNORE_ASSERT_STATEMENTS)
-                );
-                DataFlowInstructionVisitor visitor =
-                    analyzeDfaWithNestedClosures(aClass, holder, runner, Collections.singletonList(runner.createMemoryState()), state);
-                List<DfaMemoryState> states = visitor.getEndOfInitializerStates();
-                boolean physical = aClass.isPhysical();
-                for (PsiMethod method : aClass.getConstructors()) {
-                    if (physical && !method.isPhysical()) {
-                        // Constructor could be provided by, e.g. Lombok plugin: ignore it, we won't report any problems inside anyway
-                        continue;
-                    }
-                    List<DfaMemoryState> initialStates;
-                    PsiMethodCallExpression call = JavaPsiConstructorUtil.findThisOrSuperCallInConstructor(method);
-                    if (JavaPsiConstructorUtil.isChainedConstructorCall(call)
-                        || (call == null && DfaUtil.hasImplicitImpureSuperCall(aClass, method))) {
-                        initialStates = Collections.singletonList(runner.createMemoryState());
-                    }
-                    else {
-                        initialStates = StreamEx.of(states).map(DfaMemoryState::createCopy).toList();
-                    }
-                    analyzeMethod(method, runner, initialStates);
+                if (!reportConcurrentResults(aClass)) {
+                    analyzeClass(aClass, holder, state);
                 }
             }
 
@@ -110,29 +96,45 @@ public abstract class DataFlowInspectionBase extends AbstractBaseJavaLocalInspec
                 if (method.isConstructor()) {
                     return;
                 }
-                DataFlowRunner runner = new DataFlowRunner(
-                    holder.getProject(),
-                    method.getBody(),
-                    state.TREAT_UNKNOWN_MEMBERS_AS_NULLABLE,
-                    ThreeState.fromBoolean(state.IGNORE_ASSERT_STATEMENTS)
-                );
-                analyzeMethod(method, runner, Collections.singletonList(runner.createMemoryState()));
+                if (!reportConcurrentResults(method)) {
+                    analyzeMethod(method, holder, state);
+                }
             }
 
+            /**
+             * In concurrent mode (batch runs only), analyzes all the classes and methods of the file at once on the first visit
+             * and then registers the problems found for the given member.
+             *
+             * @return false if concurrent mode is off or the member was not analyzed concurrently
+             */
             @RequiredReadAction
-            private void analyzeMethod(PsiMethod method, DataFlowRunner runner, List<DfaMemoryState> initialStates) {
-                PsiCodeBlock scope = method.getBody();
-                if (scope == null) {
-                    return;
+            private boolean reportConcurrentResults(PsiMember member) {
+                if (!concurrent) {
+                    return false;
                 }
-                PsiClass containingClass = PsiTreeUtil.getParentOfType(method, PsiClass.class);
-                if (containingClass != null && PsiUtil.isLocalOrAnonymousClass(containingClass)
-                    && !(containingClass instanceof PsiEnumConstantInitializer)) {
-                    return;
+                List<ProblemDescriptor> descriptors = getConcurrentResults(member.getContainingFile()).get(member);
+                if (descriptors == null) {
+                    return false;
+                }
+                for (ProblemDescriptor descriptor : descriptors) {
+                    holder.registerProblem(descriptor);
                 }
+                return true;
+            }
 
-                analyzeDfaWithNestedClosures(scope, holder, runner, initialStates, state);
-                analyzeNullLiteralMethodArguments(method, holder, state);
+            @RequiredReadAction
+            private Map<PsiMember, List<ProblemDescriptor>> getConcurrentResults(PsiFile file) {
+                Map<PsiMember, List<ProblemDescriptor>> results = myConcurrentResults;
+                if (results == null) {
+                    synchronized (this) {
+                        results = myConcurrentResults;
+                        if (results == null) {
+                            results = analyzeFileConcurrently(file, holder, state);
+                            myConcurrentResults = results;
+                        }
+                    }
+                }
+                return results;
             }
 
             @Override
@@ -192,6 +194,105 @@ public abstract class DataFlowInspectionBase extends AbstractBaseJavaLocalInspec
         };
     }
 
+    /**
+     * Analyzes every class and method of the file on its own runner; runners are executed concurrently.
+     * Problems of each member are collected into a separate holder, so they are reported in the same order
+     * as in sequential mode once the visitor reaches the member.
+     */
+    @RequiredReadAction
+    private Map<PsiMember, List<ProblemDescriptor>> analyzeFileConcurrently(
+        PsiFile file,
+        ProblemsHolder holder,
+        DataFlowInspectionStateBase state
+    ) {
+        List<PsiMember> members = SyntaxTraverser.psiTraverser(file)
+            .filter(PsiMember.class)
+            .filter(member -> member instanceof PsiClass aClass && !(aClass instanceof PsiTypeParameter)
+                && (!PsiUtil.isLocalOrAnonymousClass(aClass) || aClass instanceof PsiEnumConstantInitializer)
+                || member instanceof PsiMethod method && !method.isConstructor())
+            .toList();
+        Map<PsiMember, List<ProblemDescriptor>> results = new ConcurrentHashMap<>();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            members,
+            ProgressIndicatorProvider.getGlobalProgressIndicator(),
+            member -> {
+                ProblemsHolder memberHolder = new ProblemsHolder(holder.getManager(), file, holder.isOnTheFly());
+                if (member instanceof PsiClass aClass) {
+                    analyzeClass(aClass, memberHolder, state);
+                }
+                else {
+                    analyzeMethod((PsiMethod)member, memberHolder, state);
+                }
+                results.put(member, memberHolder.getResults());
+                return true;
+            }
+        );
+        return results;
+    }
+
+    @RequiredReadAction
+    private void analyzeClass(PsiClass aClass, ProblemsHolder holder, DataFlowInspectionStateBase state) {
+        DataFlowRunner runner = new DataFlowRunner(
+            holder.getProject(),
+            aClass,
+            state.TREAT_UNKNOWN_MEMBERS_AS_NULLABLE,
+            ThreeState.fromBoolean(state.IGNORE_ASSERT_STATEMENTS)
+        );
+        DataFlowInstructionVisitor visitor =
+            analyzeDfaWithNestedClosures(aClass, holder, runner, Collections.singletonList(runner.createMemoryState()), state);
+        List<DfaMemoryState> states = visitor.getEndOfInitializerStates();
+        boolean physical = aClass.isPhysical();
+        for (PsiMethod method : aClass.getConstructors()) {
+            if (physical && !method.isPhysical()) {
+                // Constructor could be provided by, e.g. Lombok plugin: ignore it, we won't report any problems inside anyway
+                continue;
+            }
+            List<DfaMemoryState> initialStates;
+            PsiMethodCallExpression call = JavaPsiConstructorUtil.findThisOrSuperCallInConstructor(method);
+            if (JavaPsiConstructorUtil.isChainedConstructorCall(call)
+                || (call == null && DfaUtil.hasImplicitImpureSuperCall(aClass, method))) {
+                initialStates = Collections.singletonList(runner.createMemoryState());
+            }
+            else {
+                initialStates = StreamEx.of(states).map(DfaMemoryState::createCopy).toList();
+            }
+            analyzeMethod(method, runner, initialStates, holder, state);
+        }
+    }
+
+    @RequiredReadAction
+    private void analyzeMethod(PsiMethod method, ProblemsHolder holder, DataFlowInspectionStateBase state) {
+        DataFlowRunner runner = new DataFlowRunner(
+            holder.getProject(),
+            method.getBody(),
+            state.TREAT_UNKNOWN_MEMBERS_AS_NULLABLE,
+            ThreeState.fromBoolean(state.IGNORE_ASSERT_STATEMENTS)
+        );
+        analyzeMethod(method, runner, Collections.singletonList(runner.createMemoryState()), holder, state);
+    }
+
+    @RequiredReadAction
+    private void analyzeMethod(
+        PsiMethod method,
+        DataFlowRunner runner,
+        List<DfaMemoryState> initialStates,
+        ProblemsHolder holder,
+        DataFlowInspectionStateBase state
+    ) {
+        PsiCodeBlock scope = method.getBody();
+        if (scope == null) {
+            return;
+        }
+        PsiClass containingClass = PsiTreeUtil.getParentOfType(method, PsiClass.class);
+        if (containingClass != null && PsiUtil.isLocalOrAnonymousClass(containingClass)
+            && !(containingClass instanceof PsiEnumConstantInitializer)) {
+            return;
+        }
+
+        analyzeDfaWithNestedClosures(scope, holder, runner, initialStates, state);
+        analyzeNullLiteralMethodArguments(method, holder, state);
+    }
+
     protected LocalQuickFix createNavigateToNullParameterUsagesFix(PsiParameter parameter) {
         return null;
     }
@@ -219,6 +320,7 @@ public abstract class DataFlowInspectionBase extends AbstractBaseJavaLocalInspec
         DataFlowInspectionStateBase state
     ) {
         DataFlowInstructionVisitor visitor = new DataFlowInstructionVisitor();
+        dfaRunner.setMetricsClientId(getShortName());
         RunnerResult rc = dfaRunner.analyzeMethod(scope, visitor, initialStates);
         if (rc == RunnerResult.OK) {
             if (dfaRunner.wasForciblyMerged()
@@ -60,7 +60,10 @@ public class DataFlowRunner {
     private boolean myInlining = true;
     private boolean myCancelled = false;
     private boolean myWasForciblyMerged = false;
+    private int myStatesProcessed;
     private final TimeStats myStats = createStatistics();
+    @Nullable
+    private String myMetricsClientId;
 
     public DataFlowRunner(Project project) {
         this(project, null);
@@ -99,6 +102,14 @@ public class DataFlowRunner {
         myCancelled = true;
     }
 
+    /**
+     * @param clientId name the runs of this runner are grouped by in {@link DfaMetrics}, e.g. the inspection short name;
+     *                 if not set, the runs are grouped by the visitor class
+     */
+    public final void setMetricsClientId(String clientId) {
+        myMetricsClientId = clientId;
+    }
+
     @Nullable
     @RequiredReadAction
     private Collection<DfaMemoryState> createInitialStates(
@@ -225,12 +236,42 @@ public class DataFlowRunner {
         InstructionVisitor visitor,
         ControlFlow flow,
         List<DfaInstructionState> startingStates
+    ) {
+        DfaMetrics.AnalysisEvent event = new DfaMetrics.AnalysisEvent();
+        event.begin();
+        RunnerResult result = doInterpret(psiBlock, visitor, flow, startingStates);
+        myStats.endProcess();
+        if (result == RunnerResult.OK && myStats.isTooSlow()) {
+            String message = "Too slow DFA\nIf you report this problem, please consider including the attachments\n" + myStats +
+                "\nControl flow size: " + flow.getInstructionCount();
+            reportDfaProblem(psiBlock, flow, null, new RuntimeException(message));
+        }
+        DfaMetrics.record(
+            myMetricsClientId != null ? myMetricsClientId : visitor.getClass().getSimpleName(),
+            psiBlock,
+            result,
+            flow.getInstructionCount(),
+            myStatesProcessed,
+            myWasForciblyMerged,
+            myStats,
+            event
+        );
+        return result;
+    }
+
+    @RequiredReadAction
+    private RunnerResult doInterpret(
+        PsiElement psiBlock,
+        InstructionVisitor visitor,
+        ControlFlow flow,
+        List<DfaInstructionState> startingStates
     ) {
         int endOffset = flow.getInstructionCount();
         myInstructions = flow.getInstructions();
         DfaInstructionState lastInstructionState = null;
         myNestedClosures.clear();
         myWasForciblyMerged = false;
+        myStatesProcessed = 0;
 
         final StateQueue queue = new StateQueue();
         for (DfaInstructionState state : startingStates) {
@@ -244,7 +285,6 @@ public class DataFlowRunner {
             int[] loopNumber = flow.getLoopNumbers();
 
             int stateLimit = Registry.intValue("ide.dfa.state.limit", 50000);
-            int count = 0;
             while (!queue.isEmpty()) {
                 myStats.startMerge();
                 List<DfaInstructionState> states = queue.getNextInstructionStates(joinInstructions);
@@ -258,7 +298,7 @@ public class DataFlowRunner {
                 beforeInstruction(instruction);
                 for (DfaInstructionState instructionState : states) {
                     lastInstructionState = instructionState;
-                    if (count++ > stateLimit) {
+                    if (myStatesProcessed++ > stateLimit) {
                         LOG.trace("Too complex data flow: too many instruction states processed");
                         return RunnerResult.TOO_COMPLEX;
                     }
@@ -337,12 +377,6 @@ public class DataFlowRunner {
             }
 
             myWasForciblyMerged |= queue.wasForciblyMerged();
-            myStats.endProcess();
-            if (myStats.isTooSlow()) {
-                String message = "Too slow DFA\nIf you report this problem, please consider including the attachments\n" + myStats +
-                    "\nControl flow size: " + flow.getInstructionCount();
-                reportDfaProblem(psiBlock, flow, null, new RuntimeException(message));
-            }
             return RunnerResult.OK;
         }
         catch (ProcessCanceledException ex) {
@@ -391,6 +425,13 @@ public class DataFlowRunner {
         return myWasForciblyMerged;
     }
 
+    /**
+     * @return number of instruction states processed during the last {@code interpret} call
+     */
+    public int getStatesProcessed() {
+        return myStatesProcessed;
+    }
+
     private Set<Instruction> getJoinInstructions() {
         Set<Instruction> joinInstructions = new HashSet<>();
         for (int index = 0; index < myInstructions.length; index++) {
@@ -657,6 +698,13 @@ public class DataFlowRunner {
         return new TimeStats();
     }
 
+    /**
+     * @return statistics of the last {@link #analyzeMethod(PsiElement, InstructionVisitor)} call (or similar) made by this runner
+     */
+    public TimeStats getStatistics() {
+        return myStats;
+    }
+
     protected DfaMemoryState createMemoryState() {
         return new DfaMemoryStateImpl(myValueFactory);
     }
@@ -695,19 +743,30 @@ public class DataFlowRunner {
         }
     }
 
-    protected static class TimeStats {
+    /**
+     * Per-phase CPU time and allocation statistics of a single analysis run.
+     * Recorded in internal mode or when {@code ide.dfa.time.stats} registry key is enabled, so the numbers can be collected
+     * by external harnesses without patching the runner.
+     */
+    public static class TimeStats {
         private static final long DFA_EXECUTION_TIME_TO_REPORT_NANOS = TimeUnit.SECONDS.toNanos(30);
         @Nullable
         private final ThreadMXBean myMxBean;
-        private long myStart;
+        @Nullable
+        private final com.sun.management.ThreadMXBean myAllocationBean;
+        private long myStart, myAllocationStart;
         private long myMergeStart, myFlowTime, myLVATime, myMergeTime, myProcessTime;
+        private long myMergeAllocationStart, myFlowAllocated, myLVAAllocated, myMergeAllocated, myProcessAllocated;
 
         TimeStats() {
-            this(Application.get().isInternal());
+            this(Application.get().isInternal() || Registry.is("ide.dfa.time.stats", false));
         }
 
         public TimeStats(boolean record) {
             myMxBean = record ? ManagementFactory.getThreadMXBean() : null;
+            myAllocationBean = myMxBean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()
+                ? allocationBean : null;
             reset();
         }
 
@@ -718,36 +777,47 @@ public class DataFlowRunner {
             else {
                 myStart = myMxBean.getCurrentThreadCpuTime();
             }
+            myAllocationStart = allocatedBytes();
             myMergeStart = myFlowTime = myLVATime = myMergeTime = myProcessTime = 0;
+            myMergeAllocationStart = myFlowAllocated = myLVAAllocated = myMergeAllocated = myProcessAllocated = 0;
+        }
+
+        private long allocatedBytes() {
+            return myAllocationBean == null ? 0 : myAllocationBean.getCurrentThreadAllocatedBytes();
         }
 
         void endFlow() {
             if (myMxBean != null) {
                 myFlowTime = myMxBean.getCurrentThreadCpuTime() - myStart;
+                myFlowAllocated = allocatedBytes() - myAllocationStart;
             }
         }
 
         void endLVA() {
             if (myMxBean != null) {
                 myLVATime = myMxBean.getCurrentThreadCpuTime() - myStart - myFlowTime;
+                myLVAAllocated = allocatedBytes() - myAllocationStart - myFlowAllocated;
             }
         }
 
         void startMerge() {
             if (myMxBean != null) {
-                myMergeStart = System.nanoTime();
+                myMergeStart = myMxBean.getCurrentThreadCpuTime();
+                myMergeAllocationStart = allocatedBytes();
             }
         }
 
         void endMerge() {
             if (myMxBean != null) {
-                myMergeTime += System.nanoTime() - myMergeStart;
+                myMergeTime += myMxBean.getCurrentThreadCpuTime() - myMergeStart;
+                myMergeAllocated += allocatedBytes() - myMergeAllocationStart;
             }
         }
 
         void endProcess() {
             if (myMxBean != null) {
                 myProcessTime = myMxBean.getCurrentThreadCpuTime() - myStart;
+                myProcessAllocated = allocatedBytes() - myAllocationStart;
             }
         }
 
@@ -755,16 +825,75 @@ public class DataFlowRunner {
             return myProcessTime > DFA_EXECUTION_TIME_TO_REPORT_NANOS;
         }
 
+        /**
+         * @return true if statistics are actually recorded; otherwise all the getters return zero
+         */
+        public boolean isRecording() {
+            return myMxBean != null;
+        }
+
+        public long getFlowTimeNanos() {
+            return myFlowTime;
+        }
+
+        public long getLVATimeNanos() {
+            return myLVATime;
+        }
+
+        public long getMergeTimeNanos() {
+            return myMergeTime;
+        }
+
+        public long getInterpretTimeNanos() {
+            return myProcessTime - myFlowTime - myLVATime - myMergeTime;
+        }
+
+        public long getTotalTimeNanos() {
+            return myProcessTime;
+        }
+
+        public long getFlowAllocatedBytes() {
+            return myFlowAllocated;
+        }
+
+        public long getLVAAllocatedBytes() {
+            return myLVAAllocated;
+        }
+
+        public long getMergeAllocatedBytes() {
+            return myMergeAllocated;
+        }
+
+        public long getInterpretAllocatedBytes() {
+            return myProcessAllocated - myFlowAllocated - myLVAAllocated - myMergeAllocated;
+        }
+
+        public long getTotalAllocatedBytes() {
+            return myProcessAllocated;
+        }
+
         @Override
         public String toString() {
             double flowTime = myFlowTime / 1e9;
             double lvaTime = myLVATime / 1e9;
             double mergeTime = myMergeTime / 1e9;
-            double interpretTime = (myProcessTime - myFlowTime - myLVATime - myMergeTime) / 1e9;
+            double interpretTime = getInterpretTimeNanos() / 1e9;
             double totalTime = myProcessTime / 1e9;
             String format =
                 "Building ControlFlow: %.2fs\nLiveVariableAnalyzer: %.2fs\nMerging states: %.2fs\nInterpreting: %.2fs\nTotal: %.2fs";
-            return String.format(Locale.ENGLISH, format, flowTime, lvaTime, mergeTime, interpretTime, totalTime);
+            String result = String.format(Locale.ENGLISH, format, flowTime, lvaTime, mergeTime, interpretTime, totalTime);
+            if (myAllocationBean != null) {
+                result += String.format(
+                    Locale.ENGLISH,
+                    "\nAllocated: flow %dKb, LVA %dKb, merge %dKb, interpret %dKb, total %dKb",
+                    myFlowAllocated / 1024,
+                    myLVAAllocated / 1024,
+                    myMergeAllocated / 1024,
+                    getInterpretAllocatedBytes() / 1024,
+                    myProcessAllocated / 1024
+                );
+            }
+            return result;
         }
     }
 }
@@ -41,10 +41,13 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
 
   private final List<EqClass> myEqClasses;
   // dfa value id -> indices in myEqClasses list of the classes which contain the id
-  private final IntObjectMap<Integer> myIdToEqClassesIndices;
+  private IntObjectMap<Integer> myIdToEqClassesIndices;
   private final Stack<DfaValue> myStack;
   private final DistinctPairSet myDistinctClasses;
-  private final LinkedHashMap<DfaVariableValue, DfType> myVariableTypes;
+  private LinkedHashMap<DfaVariableValue, DfType> myVariableTypes;
+  // myIdToEqClassesIndices and myVariableTypes are shared with the state copies until the first modification
+  private boolean myIdToEqClassesIndicesShared;
+  private boolean myVariableTypesShared;
   private boolean myEphemeral;
 
   protected DfaMemoryStateImpl(final DfaValueFactory factory) {
@@ -64,10 +67,11 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     myDistinctClasses = new DistinctPairSet(this, toCopy.myDistinctClasses);
 
     myEqClasses = new ArrayList<>(toCopy.myEqClasses);
-    myIdToEqClassesIndices = IntMaps.newIntObjectHashMap();
-    toCopy.myIdToEqClassesIndices.forEach(myIdToEqClassesIndices::put);
+    myIdToEqClassesIndices = toCopy.myIdToEqClassesIndices;
+    myIdToEqClassesIndicesShared = toCopy.myIdToEqClassesIndicesShared = true;
 
-    myVariableTypes = new LinkedHashMap<>(toCopy.myVariableTypes);
+    myVariableTypes = toCopy.myVariableTypes;
+    myVariableTypesShared = toCopy.myVariableTypesShared = true;
 
     myCachedNonTrivialEqClasses = toCopy.myCachedNonTrivialEqClasses;
     myCachedHash = toCopy.myCachedHash;
@@ -77,6 +81,24 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     return myFactory;
   }
 
+  private IntObjectMap<Integer> getIdToEqClassesIndicesForUpdate() {
+    if (myIdToEqClassesIndicesShared) {
+      IntObjectMap<Integer> copy = IntMaps.newIntObjectHashMap();
+      myIdToEqClassesIndices.forEach(copy::put);
+      myIdToEqClassesIndices = copy;
+      myIdToEqClassesIndicesShared = false;
+    }
+    return myIdToEqClassesIndices;
+  }
+
+  private LinkedHashMap<DfaVariableValue, DfType> getVariableTypesForUpdate() {
+    if (myVariableTypesShared) {
+      myVariableTypes = new LinkedHashMap<>(myVariableTypes);
+      myVariableTypesShared = false;
+    }
+    return myVariableTypes;
+  }
+
   @Override
   public
   DfaMemoryStateImpl createCopy() {
@@ -293,7 +315,7 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
       myEqClasses.add(eqClass);
     }
     eqClass.forEach(id -> {
-      myIdToEqClassesIndices.put(id, resultIndex);
+      getIdToEqClassesIndicesForUpdate().put(id, resultIndex);
       return true;
     });
     return resultIndex;
@@ -482,7 +504,7 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     for (int i = 0; i < c2.size(); i++) {
       int c = c2.get(i);
       newClass.add(c);
-      myIdToEqClassesIndices.put(c, c1Index);
+      getIdToEqClassesIndicesForUpdate().put(c, c1Index);
     }
 
     myEqClasses.set(c2Index, null);
@@ -512,7 +534,7 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     for (DfaVariableValue var : vars) {
       DfaVariableValue target = replaceQualifier(var, from, to);
       if (target != var) {
-        DfType fromType = myVariableTypes.remove(var);
+        DfType fromType = getVariableTypesForUpdate().remove(var);
         if (fromType != null) {
           DfType toType = myVariableTypes.get(target);
           if (toType == null) {
@@ -617,13 +639,10 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     if (index == null) {
       return;
     }
-    for (Iterator<DistinctPairSet.DistinctPair> iterator = myDistinctClasses.iterator(); iterator.hasNext(); ) {
-      DistinctPairSet.DistinctPair pair = iterator.next();
+    myDistinctClasses.removeIf(pair -> {
       EqClass otherClass = pair.getOtherClass(index);
-      if (otherClass != null && !isNull(otherClass.getVariable(0))) {
-        iterator.remove();
-      }
-    }
+      return otherClass != null && !isNull(otherClass.getVariable(0));
+    });
   }
 
   @Override
@@ -1403,9 +1422,9 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
       type = ((DfReferenceType) type).dropSpecialField();
     }
     if (type.equals(dfaVar.getInherentType())) {
-      myVariableTypes.remove(dfaVar);
+      getVariableTypesForUpdate().remove(dfaVar);
     } else {
-      myVariableTypes.put(dfaVar, type);
+      getVariableTypesForUpdate().put(dfaVar, type);
     }
     if (type instanceof DfEphemeralReferenceType) {
       markEphemeral();
@@ -1558,7 +1577,7 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     }
 
     removeEquivalence(var);
-    myVariableTypes.remove(var);
+    getVariableTypesForUpdate().remove(var);
     if (markFlushed) {
       DfType type = getDfType(var);
       if (type instanceof DfReferenceType) {
@@ -1586,18 +1605,14 @@ public class DfaMemoryStateImpl implements DfaMemoryState {
     DfaVariableValue previousCanonical = varClass.getCanonicalVariable();
     myEqClasses.set(varClassIndex, varClass);
     varClass.removeValue(varID);
-    myIdToEqClassesIndices.remove(varID);
+    getIdToEqClassesIndicesForUpdate().remove(varID);
     checkInvariants();
 
     if (varClass.isEmpty()) {
       myEqClasses.set(varClassIndex, null);
 
-      for (Iterator<DistinctPairSet.DistinctPair> iterator = myDistinctClasses.iterator(); iterator.hasNext(); ) {
-        DistinctPairSet.DistinctPair pair = iterator.next();
-        if (pair.getOtherClass(varClassIndex) != null) {
-          iterator.remove();
-        }
-      }
+      int removedIndex = varClassIndex;
+      myDistinctClasses.removeIf(pair -> pair.getOtherClass(removedIndex) != null);
     } else {
       DfaVariableValue newCanonical = varClass.getCanonicalVariable();
       if (newCanonical != null && previousCanonical != null && previousCanonical != newCanonical &&
@@ -0,0 +1,158 @@
+package com.intellij.java.analysis.impl.codeInspection.dataFlow;
+
+import com.intellij.java.language.psi.PsiMember;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.language.psi.PsiElement;
+import consulo.language.psi.PsiFile;
+import consulo.language.psi.util.PsiTreeUtil;
+import jdk.jfr.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated statistics of dataflow analysis runs grouped by the analysis client, which is set by the caller with
+ * {@link DataFlowRunner#setMetricsClientId(String)}, e.g. {@code ConstantConditions} for the inspection. Every run is also reported as
+ * {@value #EVENT_NAME} JFR event which includes the analyzed file and member, so the slow methods can be found
+ * in a flight recording.
+ * <p>
+ * Per-phase times are accumulated only when {@link DataFlowRunner.TimeStats} are recorded.
+ */
+public final class DfaMetrics {
+    public static final String EVENT_NAME = "consulo.java.DataFlowAnalysis";
+
+    private static final Map<String, Counters> ourCounters = new ConcurrentHashMap<>();
+
+    private DfaMetrics() {
+    }
+
+    @RequiredReadAction
+    static void record(
+        String group,
+        PsiElement block,
+        RunnerResult result,
+        int instructionCount,
+        int statesProcessed,
+        boolean forciblyMerged,
+        DataFlowRunner.TimeStats stats,
+        AnalysisEvent event
+    ) {
+        Counters counters = ourCounters.computeIfAbsent(group, k -> new Counters());
+        counters.myRuns.increment();
+        counters.myResults.computeIfAbsent(result, k -> new LongAdder()).increment();
+        counters.myStatesProcessed.add(statesProcessed);
+        counters.myMaxStatesProcessed.accumulateAndGet(statesProcessed, Math::max);
+        if (forciblyMerged) {
+            counters.myForciblyMerged.increment();
+        }
+        if (stats.isRecording()) {
+            counters.myFlowTime.add(stats.getFlowTimeNanos());
+            counters.myLVATime.add(stats.getLVATimeNanos());
+            counters.myMergeTime.add(stats.getMergeTimeNanos());
+            counters.myInterpretTime.add(stats.getInterpretTimeNanos());
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            PsiFile file = block.getContainingFile();
+            PsiMember member = PsiTreeUtil.getParentOfType(block, PsiMember.class, false);
+            event.client = group;
+            event.file = file == null ? null : file.getName();
+            event.member = member == null ? null : member.getName();
+            event.result = result.name();
+            event.instructions = instructionCount;
+            event.states = statesProcessed;
+            event.forciblyMerged = forciblyMerged;
+            event.commit();
+        }
+    }
+
+    /**
+     * @return snapshot of the statistics collected so far, by analysis client
+     */
+    public static Map<String, Snapshot> getSnapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        ourCounters.forEach((group, counters) -> result.put(group, new Snapshot(counters)));
+        return result;
+    }
+
+    public static void reset() {
+        ourCounters.clear();
+    }
+
+    public static String getReport() {
+        StringBuilder sb = new StringBuilder();
+        getSnapshot().forEach((group, snapshot) -> sb.append(group).append(": ").append(snapshot).append('\n'));
+        return sb.toString();
+    }
+
+    private static final class Counters {
+        private final LongAdder myRuns = new LongAdder();
+        private final Map<RunnerResult, LongAdder> myResults = new ConcurrentHashMap<>();
+        private final LongAdder myStatesProcessed = new LongAdder();
+        private final AtomicLong myMaxStatesProcessed = new AtomicLong();
+        private final LongAdder myForciblyMerged = new LongAdder();
+        private final LongAdder myFlowTime = new LongAdder();
+        private final LongAdder myLVATime = new LongAdder();
+        private final LongAdder myMergeTime = new LongAdder();
+        private final LongAdder myInterpretTime = new LongAdder();
+    }
+
+    public static final class Snapshot {
+        public final long runs;
+        public final Map<RunnerResult, Long> results;
+        public final long statesProcessed;
+        public final long maxStatesProcessed;
+        public final long forciblyMerged;
+        public final long flowTimeNanos;
+        public final long lvaTimeNanos;
+        public final long mergeTimeNanos;
+        public final long interpretTimeNanos;
+
+        private Snapshot(Counters counters) {
+            runs = counters.myRuns.sum();
+            Map<RunnerResult, Long> map = new EnumMap<>(RunnerResult.class);
+            counters.myResults.forEach((result, count) -> map.put(result, count.sum()));
+            results = Collections.unmodifiableMap(map);
+            statesProcessed = counters.myStatesProcessed.sum();
+            maxStatesProcessed = counters.myMaxStatesProcessed.get();
+            forciblyMerged = counters.myForciblyMerged.sum();
+            flowTimeNanos = counters.myFlowTime.sum();
+            lvaTimeNanos = counters.myLVATime.sum();
+            mergeTimeNanos = counters.myMergeTime.sum();
+            interpretTimeNanos = counters.myInterpretTime.sum();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.ENGLISH,
+                "runs %d %s, states %d (max %d), forcibly merged %d, flow %.2fs, LVA %.2fs, merge %.2fs, interpret %.2fs",
+                runs, results, statesProcessed, maxStatesProcessed, forciblyMerged,
+                flowTimeNanos / 1e9, lvaTimeNanos / 1e9, mergeTimeNanos / 1e9, interpretTimeNanos / 1e9
+            );
+        }
+    }
+
+    @Name(EVENT_NAME)
+    @Label("Dataflow Analysis")
+    @Category({"Consulo", "Java"})
+    @Description("Dataflow analysis of a single method, lambda or class initializer")
+    static final class AnalysisEvent extends Event {
+        @Label("Client")
+        String client;
+        @Label("File")
+        String file;
+        @Label("Member")
+        String member;
+        @Label("Result")
+        String result;
+        @Label("Instructions")
+        int instructions;
+        @Label("States Processed")
+        int states;
+        @Label("Forcibly Merged")
+        boolean forciblyMerged;
+    }
+}
@@ -465,6 +465,7 @@ public final class DfaPsiUtil {
                         return super.acceptInstruction(visitor, instructionState);
                     }
                 };
+                dfaRunner.setMetricsClientId("NotNullFieldInitialization");
                 final RunnerResult rc = dfaRunner.analyzeMethod(body, new StandardInstructionVisitor());
                 Set<PsiField> notNullFields = new HashSet<>();
                 if (rc == RunnerResult.OK) {
@@ -222,6 +222,7 @@ public final class DfaUtil {
       }
     }
     BlockNullabilityVisitor visitor = new BlockNullabilityVisitor();
+    dfaRunner.setMetricsClientId("BlockNullability");
     final RunnerResult rc = dfaRunner.analyzeMethod(body, visitor);
 
     if (rc == RunnerResult.OK) {
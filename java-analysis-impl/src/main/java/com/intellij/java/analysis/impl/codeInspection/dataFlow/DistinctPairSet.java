@@ -14,11 +14,14 @@ import java.util.AbstractSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PrimitiveIterator;
+import java.util.function.Predicate;
 
 final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 {
 	private final DfaMemoryStateImpl myState;
-	private final LongSet myData;
+	private LongSet myData;
+	// myData is shared with the copies of this set until the first modification
+	private boolean myShared;
 
 	DistinctPairSet(DfaMemoryStateImpl state)
 	{
@@ -28,9 +31,20 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 
 	DistinctPairSet(DfaMemoryStateImpl state, DistinctPairSet other)
 	{
-		myData = LongSets.newHashSet(other.size());
+		myData = other.myData;
 		myState = state;
-		other.myData.forEach(myData::add);
+		myShared = other.myShared = true;
+	}
+
+	private void ensureOwnData()
+	{
+		if(myShared)
+		{
+			LongSet data = LongSets.newHashSet(myData.size());
+			myData.forEach(data::add);
+			myData = data;
+			myShared = false;
+		}
 	}
 
 	boolean addOrdered(int firstIndex, int secondIndex)
@@ -60,6 +74,7 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 				toAdd.add(createPair(pair.myFirst, secondIndex, true));
 			}
 		}
+		ensureOwnData();
 		myData.addAll(toAdd.toArray());
 		return true;
 	}
@@ -69,6 +84,7 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 		if(!myData.contains(createPair(firstIndex, secondIndex, true)) &&
 				!myData.contains(createPair(secondIndex, firstIndex, true)))
 		{
+			ensureOwnData();
 			myData.add(createPair(firstIndex, secondIndex, false));
 		}
 	}
@@ -79,7 +95,13 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 		if(o instanceof DistinctPair)
 		{
 			DistinctPair dp = (DistinctPair) o;
-			return myData.remove(createPair(dp.myFirst, dp.mySecond, dp.myOrdered));
+			long pair = createPair(dp.myFirst, dp.mySecond, dp.myOrdered);
+			if(!myData.contains(pair))
+			{
+				return false;
+			}
+			ensureOwnData();
+			return myData.remove(pair);
 		}
 		return false;
 	}
@@ -119,7 +141,9 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 	{
 		return new Iterator<>()
 		{
-			final PrimitiveIterator.OfLong iterator = myData.iterator();
+			final LongSet data = myData;
+			final PrimitiveIterator.OfLong iterator = data.iterator();
+			long last;
 
 			@Override
 			public boolean hasNext()
@@ -130,17 +154,43 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 			@Override
 			public DistinctPair next()
 			{
-				return decode(iterator.next());
+				last = iterator.nextLong();
+				return decode(last);
 			}
 
 			@Override
 			public void remove()
 			{
-				iterator.remove();
+				if(myData == data && !myShared)
+				{
+					iterator.remove();
+				}
+				else
+				{
+					// Iterated data is shared with other states: keep iterating it and remove from the own copy
+					ensureOwnData();
+					myData.remove(last);
+				}
 			}
 		};
 	}
 
+	@Override
+	public boolean removeIf(Predicate<? super DistinctPair> filter)
+	{
+		ensureOwnData();
+		boolean removed = false;
+		for(PrimitiveIterator.OfLong iterator = myData.iterator(); iterator.hasNext(); )
+		{
+			if(filter.test(decode(iterator.nextLong())))
+			{
+				iterator.remove();
+				removed = true;
+			}
+		}
+		return removed;
+	}
+
 	@Override
 	public int size()
 	{
@@ -187,6 +237,10 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 			}
 		}
 
+		if(c2Pairs.size() > 0)
+		{
+			ensureOwnData();
+		}
 		for(int i = 0; i < c2Pairs.size(); i++)
 		{
 			long c = c2Pairs.get(i);
@@ -209,6 +263,7 @@ final class DistinctPairSet extends AbstractSet<DistinctPairSet.DistinctPair>
 
 	public void splitClass(int index, int[] splitIndices)
 	{
+		ensureOwnData();
 		LongList toAdd = LongLists.newArrayList();
 		for(PrimitiveIterator.OfLong iterator = myData.iterator(); iterator.hasNext(); )
 		{
@@ -72,6 +72,7 @@ final class NullParameterConstraintChecker extends DataFlowRunner
 		}
 
 		NullParameterConstraintChecker checker = new NullParameterConstraintChecker(method.getProject(), nullableParameters);
+		checker.setMetricsClientId("NullParameterConstraint");
 		checker.analyzeMethod(method.getBody(), new StandardInstructionVisitor());
 
 		return checker.myPossiblyViolatedParameters
@@ -67,6 +67,7 @@ public final class TrackingRunner extends DataFlowRunner {
     ) {
         super(context.getProject(), context, unknownMembersAreNullable, ThreeState.fromBoolean(ignoreAssertions));
         myExpression = expression;
+        setMetricsClientId("TrackingRunner");
     }
 
     @Override
@@ -22,6 +22,8 @@ open module consulo.java.analysis.impl {
   requires java.desktop;
 
   requires java.management;
+  requires jdk.management;
+  requires jdk.jfr;
 
   requires asm;
   requires asm.analysis;
@@ -66,6 +66,7 @@ public class Cache {
   private static final Logger LOG = Logger.getInstance(Cache.class);
   public static final int UNKNOWN = -1;
 
+  // the storage is not thread-safe, all the accesses are guarded by it
   private final MyMapIndexStorage myQNameToClassInfoMap;
 
   private final BackwardDependenciesStorage myDependencies;
@@ -78,7 +79,8 @@ public class Cache {
     myStorePath = storePath;
     new File(storePath).mkdirs();
 
-    myQNameToClassInfoMap = new MyMapIndexStorage(getOrCreateFile("classes_cache"), EnumeratorIntegerDescriptor.INSTANCE, cacheSize * 2);
+    // class infos with lazily decoded sections and ABI fingerprints, see ClassInfo; the name changes with the record format
+    myQNameToClassInfoMap = new MyMapIndexStorage(getOrCreateFile("class_infos_v2"), EnumeratorIntegerDescriptor.INSTANCE, cacheSize * 2);
 
     myDependencies = new BackwardDependenciesStorage(getOrCreateFile("bdeps"), cacheSize);
     myQNameToReferencedClassesMap = new CompilerDependencyStorage<>(getOrCreateFile("fdeps"), EnumeratorIntegerDescriptor.INSTANCE, cacheSize);
@@ -132,7 +134,9 @@ public class Cache {
   public int importClassInfo(ClassFileReader reader, SymbolTable symbolTable) throws ClsFormatException, CacheCorruptedException {
     try {
       final ClassInfo classInfo = new ClassInfo(reader, symbolTable);
-      myQNameToClassInfoMap.addValue(classInfo.getQualifiedName(), 0, classInfo);
+      synchronized (myQNameToClassInfoMap) {
+        myQNameToClassInfoMap.addValue(classInfo.getQualifiedName(), 0, classInfo);
+      }
       return classInfo.getQualifiedName();
     } catch (Throwable e) {
       throw new CacheCorruptedException(e);
@@ -145,7 +149,9 @@ public class Cache {
       if (classInfo != null) {
         final ClassInfo clone = classInfo.clone();
         clone.clearReferences();
-        myQNameToClassInfoMap.addValue(classInfo.getQualifiedName(), 0, classInfo);
+        synchronized (myQNameToClassInfoMap) {
+          myQNameToClassInfoMap.addValue(classInfo.getQualifiedName(), 0, classInfo);
+        }
       }
     } catch (Throwable e) {
       throw new CacheCorruptedException(e);
@@ -153,8 +159,12 @@ public class Cache {
   }
 
   public AnnotationConstantValue[] getRuntimeVisibleAnnotations(int classId) throws CacheCorruptedException {
-    final ClassInfo classInfo = getClassInfo(classId);
-    return classInfo != null ? classInfo.getRuntimeVisibleAnnotations() : AnnotationConstantValue.EMPTY_ARRAY;
+    try {
+      final ClassInfo classInfo = getClassInfo(classId);
+      return classInfo != null ? classInfo.getRuntimeVisibleAnnotations() : AnnotationConstantValue.EMPTY_ARRAY;
+    } catch (Throwable e) {
+      throw new CacheCorruptedException(e);
+    }
   }
 
   public AnnotationConstantValue[] getRuntimeInvisibleAnnotations(int classId) throws CacheCorruptedException {
@@ -251,20 +261,30 @@ public class Cache {
   }
 
   public void setPath(int classId, String path) throws CacheCorruptedException {
-    ClassInfo classInfo = getClassInfo(classId);
-    if (classInfo != null) {
-      classInfo.setPath(path);
+    synchronized (myQNameToClassInfoMap) {
+      ClassInfo classInfo = getClassInfo(classId);
+      if (classInfo != null) {
+        classInfo.setPath(path);
 
-      removeClassInfo(classInfo);
+        removeClassInfo(classInfo);
 
-      try {
-        myQNameToClassInfoMap.addValue(classId, 0, classInfo);
-      } catch (Throwable e) {
-        throw new CacheCorruptedException(e);
+        try {
+          myQNameToClassInfoMap.addValue(classId, 0, classInfo);
+        } catch (Throwable e) {
+          throw new CacheCorruptedException(e);
+        }
       }
     }
   }
 
+  /**
+   * @return ABI fingerprint of the class, or 0 if the class is unknown
+   */
+  public long getAbiFingerprint(int classId) throws CacheCorruptedException {
+    final ClassInfo classInfo = getClassInfo(classId);
+    return classInfo != null ? classInfo.getAbiFingerprint() : 0;
+  }
+
   public int getGenericSignature(int classId) throws CacheCorruptedException {
     final ClassInfo classInfo = getClassInfo(classId);
     return classInfo != null ? classInfo.getGenericSignature() : UNKNOWN;
@@ -285,8 +305,12 @@ public class Cache {
   }
 
   public FieldInfo[] getFields(int qName) throws CacheCorruptedException {
-    final ClassInfo classInfo = getClassInfo(qName);
-    return classInfo != null ? classInfo.getFields() : FieldInfo.EMPTY_ARRAY;
+    try {
+      final ClassInfo classInfo = getClassInfo(qName);
+      return classInfo != null ? classInfo.getFields() : FieldInfo.EMPTY_ARRAY;
+    } catch (Throwable e) {
+      throw new CacheCorruptedException(e);
+    }
   }
 
   @Nullable
@@ -318,8 +342,12 @@ public class Cache {
   }
 
   public MethodInfo[] getMethods(int classQName) throws CacheCorruptedException {
-    final ClassInfo classInfo = getClassInfo(classQName);
-    return classInfo != null ? classInfo.getMethods() : MethodInfo.EMPTY_ARRAY;
+    try {
+      final ClassInfo classInfo = getClassInfo(classQName);
+      return classInfo != null ? classInfo.getMethods() : MethodInfo.EMPTY_ARRAY;
+    } catch (Throwable e) {
+      throw new CacheCorruptedException(e);
+    }
   }
 
   @Nullable
@@ -434,14 +462,16 @@ public class Cache {
   @Nullable
   private ClassInfo getClassInfo(int qName) throws CacheCorruptedException {
     try {
-      ValueContainer<ClassInfo> data = myQNameToClassInfoMap.read(qName);
+      synchronized (myQNameToClassInfoMap) {
+        ValueContainer<ClassInfo> data = myQNameToClassInfoMap.read(qName);
 
-      ValueContainer.ValueIterator<ClassInfo> valueIterator = data.getValueIterator();
+        ValueContainer.ValueIterator<ClassInfo> valueIterator = data.getValueIterator();
 
-      if (valueIterator.hasNext()) {
-        return valueIterator.next();
+        if (valueIterator.hasNext()) {
+          return valueIterator.next();
+        }
+        return null;
       }
-      return null;
     } catch (Throwable e) {
       throw new CacheCorruptedException(e);
     }
@@ -468,10 +498,12 @@ public class Cache {
 
   private void removeClassInfo(ClassInfo classInfo) throws CacheCorruptedException {
     try {
-      ChangeTrackingValueContainer<ClassInfo> container = myQNameToClassInfoMap.read(classInfo.getQualifiedName());
+      synchronized (myQNameToClassInfoMap) {
+        ChangeTrackingValueContainer<ClassInfo> container = myQNameToClassInfoMap.read(classInfo.getQualifiedName());
 
-      if (container.size() != 0) {
-        container.removeAssociatedValue(0);
+        if (container.size() != 0) {
+          container.removeAssociatedValue(0);
+        }
       }
     } catch (Throwable e) {
       throw new CacheCorruptedException(e);
@@ -35,12 +35,15 @@ import java.util.Map;
  */
 public class CachingSearcher {
   private final Project myProject;
-  private final Map<Pair<PsiElement, Boolean>, Collection<PsiReference>> myElementToReferencersMap = ContainerUtil.createSoftMap();
+  private final Map<Pair<PsiElement, Boolean>, Collection<PsiReference>> myElementToReferencersMap = ContainerUtil.createConcurrentSoftMap();
 
   public CachingSearcher(Project project) {
     myProject = project;
   }
 
+  /**
+   * Can be called concurrently, the same element may be searched twice in this case
+   */
   public Collection<PsiReference> findReferences(PsiElement element, final boolean ignoreAccessScope) {
     final Pair<PsiElement, Boolean> key = Pair.create(element, ignoreAccessScope? Boolean.TRUE : Boolean.FALSE);
     Collection<PsiReference> psiReferences = myElementToReferencersMap.get(key);
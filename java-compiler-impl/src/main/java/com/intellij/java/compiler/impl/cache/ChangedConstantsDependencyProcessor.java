@@ -374,6 +374,9 @@ public class ChangedConstantsDependencyProcessor {
   }
 
   private void incConstantSearchesCount() {
-    CONSTANTS_COUNTER.set(myContext, getConstantSearchesCount() + 1);
+    // constants of several classes are processed concurrently
+    synchronized (CONSTANTS_COUNTER) {
+      CONSTANTS_COUNTER.set(myContext, getConstantSearchesCount() + 1);
+    }
   }
 }
@@ -19,11 +19,14 @@ import com.intellij.java.compiler.impl.classParsing.*;
 import com.intellij.java.compiler.impl.util.cls.ClsUtil;
 import com.intellij.java.language.util.cls.ClsFormatException;
 import consulo.application.Application;
+import consulo.application.util.concurrent.JobLauncher;
 import consulo.compiler.*;
 import consulo.component.ProcessCanceledException;
+import consulo.java.compiler.impl.javaCompiler.CompileProfiler;
 import consulo.logging.Logger;
 import consulo.project.Project;
 import consulo.util.collection.ArrayUtil;
+import consulo.util.collection.ContainerUtil;
 import consulo.util.collection.primitive.ints.IntSet;
 import consulo.util.collection.primitive.ints.IntSets;
 import consulo.util.lang.Pair;
@@ -35,6 +38,9 @@ import org.jspecify.annotations.Nullable;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -49,16 +55,17 @@ public class JavaDependencyCache implements DependencyCache {
     private volatile Cache myNewClassesCache;
 
     private static final String REMOTE_INTERFACE_NAME = "java.rmi.Remote";
-    private final IntSet myToUpdate = IntSets.newHashSet(); // qName strings to be updated.
+    private final IntSet myToUpdate = IntSets.newHashSet(); // qName strings to be updated, guarded by myMarkedInfos
     private final IntSet myTraverseRoots = IntSets.newHashSet(); // Dependencies are calculated from these clasess
-    private final IntSet myClassesWithSourceRemoved = IntSets.newHashSet();
+    private final IntSet myClassesWithSourceRemoved = IntSets.newHashSet(); // guarded by myMarkedInfos
     private final IntSet myPreviouslyRemoteClasses = IntSets.newHashSet();
     // classes that were Remote, but became non-Remote for some reason
-    private final IntSet myMarkedInfos = IntSets.newHashSet(); // classes to be recompiled
-    private final Set<VirtualFile> myMarkedFiles = new HashSet<>();
+    private final IntSet myMarkedInfos = IntSets.newHashSet(); // classes to be recompiled, guarded by itself
+    private final Set<VirtualFile> myMarkedFiles = ContainerUtil.newConcurrentSet();
 
     private volatile JavaDependencyCacheNavigator myCacheNavigator;
     private volatile SymbolTable mySymbolTable;
+    private volatile CompileProfiler myProfiler = CompileProfiler.DISABLED;
     private final String mySymbolTableFilePath;
     private final String myStoreDirectoryPath;
     private static final String SYMBOLTABLE_FILE_NAME = "java-symboltable.dat";
@@ -121,11 +128,23 @@ public class JavaDependencyCache implements DependencyCache {
     }
 
     public void markSourceRemoved(int qName) {
-        myClassesWithSourceRemoved.add(qName);
+        synchronized (myMarkedInfos) {
+            myClassesWithSourceRemoved.add(qName);
+        }
+    }
+
+    /**
+     * @param profiler receiver of the cache update timings of the current build
+     */
+    public void setProfiler(CompileProfiler profiler) {
+        myProfiler = profiler;
     }
 
     public void addClassToUpdate(int qName) {
-        myToUpdate.add(qName);
+        // called by the dependency processors of concurrently processed traverse roots
+        synchronized (myMarkedInfos) {
+            myToUpdate.add(qName);
+        }
     }
 
     public int reparseClassFile(File file, @Nullable byte[] fileContent) throws ClsFormatException, CacheCorruptedException {
@@ -153,13 +172,25 @@ public class JavaDependencyCache implements DependencyCache {
 
     @Override
     public void update() throws CacheCorruptedException {
-        if (myToUpdate.isEmpty()) {
+        int[] namesToUpdate;
+        synchronized (myMarkedInfos) {
+            namesToUpdate = myToUpdate.toArray();
+        }
+        if (namesToUpdate.length == 0) {
             return; // optimization
         }
 
         //pause();
 
-        int[] namesToUpdate = myToUpdate.toArray();
+        try (CompileProfiler.Span span = myProfiler.start(CompileProfiler.CATEGORY_DEPENDENCIES, "update")) {
+            span.arg("classes", namesToUpdate.length);
+            doUpdate(namesToUpdate);
+        }
+
+        //pause();
+    }
+
+    private void doUpdate(int[] namesToUpdate) throws CacheCorruptedException {
         Cache cache = getCache();
         Cache newCache = getNewClassesCache();
         JavaDependencyCacheNavigator navigator = getCacheNavigator();
@@ -224,12 +255,16 @@ public class JavaDependencyCache implements DependencyCache {
             buildSubclassDependencies(getCache(), qName, qName);
         }
 
-        for (int qName : myClassesWithSourceRemoved.toArray()) {
+        int[] classesWithSourceRemoved;
+        synchronized (myMarkedInfos) {
+            classesWithSourceRemoved = myClassesWithSourceRemoved.toArray();
+        }
+        for (int qName : classesWithSourceRemoved) {
             cache.removeClass(qName);
         }
-        myToUpdate.clear();
-
-        //pause();
+        synchronized (myMarkedInfos) {
+            myToUpdate.clear();
+        }
     }
 
     @Override
@@ -413,9 +448,17 @@ public class JavaDependencyCache implements DependencyCache {
         throws CacheCorruptedException, ExitException {
 
         markDependencies(context, project, compiledWithErrors);
-        return Pair.create(myMarkedInfos.toArray(), Collections.unmodifiableSet(myMarkedFiles));
+        int[] markedInfos;
+        synchronized (myMarkedInfos) {
+            markedInfos = myMarkedInfos.toArray();
+        }
+        return Pair.create(markedInfos, Collections.unmodifiableSet(myMarkedFiles));
     }
 
+    /**
+     * Traverse roots are independent of each other: the processors only add classes to the marked set, so the roots are
+     * processed concurrently. {@link DependencyProcessor} extensions are not required to be thread-safe and run afterwards.
+     */
     private void markDependencies(CompileContext context, Project project, Set<VirtualFile> compiledWithErrors)
         throws CacheCorruptedException, ExitException {
         try {
@@ -424,65 +467,78 @@ public class JavaDependencyCache implements DependencyCache {
             }
             // myToUpdate can be modified during the mark procedure, so use toArray() to iterate it
             int[] traverseRoots = myTraverseRoots.toArray();
+            if (traverseRoots.length == 0) {
+                return;
+            }
+
+            // lazily created caches must not be created concurrently
+            Cache cache = getCache();
+            Cache newClassesCache = getNewClassesCache();
+            getSymbolTable();
+            getCacheNavigator();
+
             SourceFileFinder sourceFileFinder = new SourceFileFinder(project, context);
             CachingSearcher searcher = new CachingSearcher(project);
             ChangedRetentionPolicyDependencyProcessor changedRetentionPolicyDependencyProcessor =
                 new ChangedRetentionPolicyDependencyProcessor(project, searcher, this);
-            for (int qName : traverseRoots) {
-                if (!getCache().containsClass(qName)) {
-                    continue;
+            ProcessorStatistics statistics = new ProcessorStatistics();
+            List<Integer> recompiledRoots = Collections.synchronizedList(new ArrayList<>());
+            AtomicReference<CacheCorruptedException> exception = new AtomicReference<>();
+
+            try (CompileProfiler.Span span = CompileProfiler.getInstance(context).start(CompileProfiler.CATEGORY_DEPENDENCIES, "mark dependencies")) {
+                span.arg("roots", traverseRoots.length);
+                long start = System.nanoTime();
+                List<Integer> roots = new ArrayList<>(traverseRoots.length);
+                for (int qName : traverseRoots) {
+                    roots.add(qName);
                 }
-                if (getNewClassesCache().containsClass(qName)) { // there is a new class file created
-                    new JavaDependencyProcessor(project, this, qName).run();
-                    List<ChangedConstantsDependencyProcessor.FieldChangeInfo> changed = new ArrayList<>();
-                    List<ChangedConstantsDependencyProcessor.FieldChangeInfo> removed = new ArrayList<>();
-                    findModifiedConstants(qName, changed, removed);
-                    if (!changed.isEmpty() || !removed.isEmpty()) {
-                        new ChangedConstantsDependencyProcessor(project, searcher, this, qName, context, changed
-                            .toArray(new ChangedConstantsDependencyProcessor.FieldChangeInfo[changed.size()]), removed
-                            .toArray(new ChangedConstantsDependencyProcessor.FieldChangeInfo[removed.size()]))
-                            .run();
+                JobLauncher.getInstance().invokeConcurrentlyUnderProgress(roots, context.getProgressIndicator(), qName -> {
+                    try {
+                        if (!cache.containsClass(qName)) {
+                            return true;
+                        }
+                        if (newClassesCache.containsClass(qName)) { // there is a new class file created
+                            recompiledRoots.add(qName);
+                            markRecompiledClassDependencies(project, context, searcher, changedRetentionPolicyDependencyProcessor, statistics, qName);
+                        }
+                        else {
+                            long processorStart = System.nanoTime();
+                            markRemovedClassDependencies(project, sourceFileFinder, compiledWithErrors, qName);
+                            statistics.add("RemovedClasses", processorStart);
+                        }
+                        return true;
                     }
-                    changedRetentionPolicyDependencyProcessor.checkAnnotationRetentionPolicyChanges(qName);
-                    for (DependencyProcessor additionalProcessor : project.getApplication().getExtensionList(DependencyProcessor.class)) {
-                        additionalProcessor.processDependencies(context, qName, searcher);
+                    catch (CacheCorruptedException e) {
+                        exception.compareAndSet(null, e);
+                        return false;
                     }
+                });
+                if (exception.get() != null) {
+                    throw exception.get();
                 }
-                else {
-                    boolean isSourceDeleted = false;
-                    if (myClassesWithSourceRemoved.contains(qName)) { // no recompiled class file, check whether the classfile exists
-                        isSourceDeleted = true;
-                    }
-                    else if (!new File(getCache().getPath(qName)).exists()) {
-                        String qualifiedName = resolve(qName);
-                        String sourceFileName = getCache().getSourceFileName(qName);
-                        boolean markAsRemovedSource = project.getApplication().runReadAction((Supplier<Boolean>)() -> {
-                            VirtualFile sourceFile = sourceFileFinder.findSourceFile(qualifiedName, sourceFileName, false);
-                            return sourceFile == null || !compiledWithErrors.contains(sourceFile) ? Boolean.TRUE : Boolean.FALSE;
-                        });
-                        if (markAsRemovedSource) {
-                            // for Inner classes: sourceFile may exist, but the inner class declaration inside it may not,
-                            // thus the source for the class info should be considered removed
-                            isSourceDeleted = true;
-                            markSourceRemoved(qName);
-                            myMarkedInfos.remove(qName); // if the info has been marked already, the mark should be removed
-                        }
-                    }
-                    if (isSourceDeleted) {
-                        Dependency[] backDependencies = getCache().getBackDependencies(qName);
-                        for (Dependency backDependency : backDependencies) {
-                            if (markTargetClassInfo(backDependency) && LOG.isDebugEnabled()) {
-                                LOG.debug(
-                                    "Mark dependent class " + backDependency.getClassQualifiedName() + "; " +
-                                        "reason: no class file found for " + qName
-                                );
-                            }
+
+                List<DependencyProcessor> additionalProcessors = project.getApplication().getExtensionList(DependencyProcessor.class);
+                if (!additionalProcessors.isEmpty()) {
+                    Collections.sort(recompiledRoots); // keep the order stable between builds
+                    for (int qName : recompiledRoots) {
+                        for (DependencyProcessor additionalProcessor : additionalProcessors) {
+                            long processorStart = System.nanoTime();
+                            additionalProcessor.processDependencies(context, qName, searcher);
+                            statistics.add(additionalProcessor.getClass().getSimpleName(), processorStart);
                         }
                     }
                 }
-            }
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("================================================================");
+
+                int marked;
+                synchronized (myMarkedInfos) {
+                    marked = myMarkedInfos.size();
+                }
+                span.arg("marked", marked).arg("processors", statistics.toString());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Dependencies of " + traverseRoots.length + " classes processed in " +
+                        (System.nanoTime() - start) / 1000000 + "ms: " + statistics);
+                    LOG.debug("================================================================");
+                }
             }
         }
         catch (ProcessCanceledException ignored) {
@@ -490,6 +546,81 @@ public class JavaDependencyCache implements DependencyCache {
         }
     }
 
+    private void markRecompiledClassDependencies(
+        Project project,
+        CompileContext context,
+        CachingSearcher searcher,
+        ChangedRetentionPolicyDependencyProcessor changedRetentionPolicyDependencyProcessor,
+        ProcessorStatistics statistics,
+        int qName
+    ) throws CacheCorruptedException {
+        long processorStart = System.nanoTime();
+        if (getCache().getAbiFingerprint(qName) == getNewClassesCache().getAbiFingerprint(qName)) {
+            // e.g. only method bodies were changed, nothing the dependent classes are compiled against
+            statistics.add("UnchangedAbi", processorStart);
+            return;
+        }
+        new JavaDependencyProcessor(project, this, qName).run();
+        statistics.add("JavaDependencyProcessor", processorStart);
+
+        processorStart = System.nanoTime();
+        List<ChangedConstantsDependencyProcessor.FieldChangeInfo> changed = new ArrayList<>();
+        List<ChangedConstantsDependencyProcessor.FieldChangeInfo> removed = new ArrayList<>();
+        findModifiedConstants(qName, changed, removed);
+        if (!changed.isEmpty() || !removed.isEmpty()) {
+            new ChangedConstantsDependencyProcessor(project, searcher, this, qName, context, changed
+                .toArray(new ChangedConstantsDependencyProcessor.FieldChangeInfo[changed.size()]), removed
+                .toArray(new ChangedConstantsDependencyProcessor.FieldChangeInfo[removed.size()]))
+                .run();
+        }
+        statistics.add("ChangedConstantsDependencyProcessor", processorStart);
+
+        processorStart = System.nanoTime();
+        changedRetentionPolicyDependencyProcessor.checkAnnotationRetentionPolicyChanges(qName);
+        statistics.add("ChangedRetentionPolicyDependencyProcessor", processorStart);
+    }
+
+    private void markRemovedClassDependencies(
+        Project project,
+        SourceFileFinder sourceFileFinder,
+        Set<VirtualFile> compiledWithErrors,
+        int qName
+    ) throws CacheCorruptedException {
+        boolean isSourceDeleted;
+        synchronized (myMarkedInfos) {
+            isSourceDeleted = myClassesWithSourceRemoved.contains(qName);
+        }
+        if (!isSourceDeleted && !new File(getCache().getPath(qName)).exists()) {
+            // no recompiled class file, check whether the classfile exists
+            String qualifiedName = resolve(qName);
+            String sourceFileName = getCache().getSourceFileName(qName);
+            boolean markAsRemovedSource = project.getApplication().runReadAction((Supplier<Boolean>)() -> {
+                VirtualFile sourceFile = sourceFileFinder.findSourceFile(qualifiedName, sourceFileName, false);
+                return sourceFile == null || !compiledWithErrors.contains(sourceFile) ? Boolean.TRUE : Boolean.FALSE;
+            });
+            if (markAsRemovedSource) {
+                // for Inner classes: sourceFile may exist, but the inner class declaration inside it may not,
+                // thus the source for the class info should be considered removed
+                isSourceDeleted = true;
+                synchronized (myMarkedInfos) {
+                    myClassesWithSourceRemoved.add(qName);
+                    myMarkedInfos.remove(qName); // if the info has been marked already, the mark should be removed
+                }
+            }
+        }
+        if (isSourceDeleted) {
+            Dependency[] backDependencies = getCache().getBackDependencies(qName);
+            for (Dependency backDependency : backDependencies) {
+                if (markTargetClassInfo(backDependency) && LOG.isDebugEnabled()) {
+                    LOG.debug(
+                        "Mark dependent class " + backDependency.getClassQualifiedName() + "; " +
+                            "reason: no class file found for " + qName
+                    );
+                }
+            }
+        }
+    }
+
     private void findModifiedConstants(
         int qName,
         Collection<ChangedConstantsDependencyProcessor.FieldChangeInfo> changedConstants,
@@ -565,7 +696,9 @@ public class JavaDependencyCache implements DependencyCache {
     }
 
     public boolean isClassInfoMarked(int qName) {
-        return myMarkedInfos.contains(qName);
+        synchronized (myMarkedInfos) {
+            return myMarkedInfos.contains(qName);
+        }
     }
 
     public void markFile(VirtualFile file) {
@@ -576,27 +709,35 @@ public class JavaDependencyCache implements DependencyCache {
      * @return true if really marked, false otherwise
      */
     private boolean markClassInfo(int qName, boolean force) throws CacheCorruptedException {
+        if (isClassInfoMarked(qName)) {
+            return false; // cheap check before the cache lookups, the same class is usually reached from many roots
+        }
         if (!getCache().containsClass(qName)) {
             return false;
         }
-        if (myClassesWithSourceRemoved.contains(qName)) {
-            return false; // no need to recompile since source has been removed
-        }
         if (!force) {
             if (getNewClassesCache().containsClass(qName)) { // already recompiled
                 return false;
             }
         }
-        return myMarkedInfos.add(qName);
+        synchronized (myMarkedInfos) {
+            if (myClassesWithSourceRemoved.contains(qName)) {
+                return false; // no need to recompile since source has been removed
+            }
+            return myMarkedInfos.add(qName);
+        }
     }
 
     @Override
     public void resetState() {
-        myClassesWithSourceRemoved.clear();
+        synchronized (myMarkedInfos) {
+            myClassesWithSourceRemoved.clear();
+            myMarkedInfos.clear();
+            myToUpdate.clear();
+        }
         myMarkedFiles.clear();
-        myMarkedInfos.clear();
-        myToUpdate.clear();
         myTraverseRoots.clear();
+        myProfiler = CompileProfiler.DISABLED;
         if (myNewClassesCache != null) {
             myNewClassesCache.wipe();
             myNewClassesCache = null;
@@ -685,6 +826,32 @@ public class JavaDependencyCache implements DependencyCache {
         });
     }
 
+    /**
+     * Time spent by each dependency processor during a single {@link #markDependencies} run, summed over all threads
+     */
+    private static final class ProcessorStatistics {
+        private final Map<String, LongAdder> myNanos = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> myRuns = new ConcurrentHashMap<>();
+
+        void add(String processor, long startNanos) {
+            myNanos.computeIfAbsent(processor, k -> new LongAdder()).add(System.nanoTime() - startNanos);
+            myRuns.computeIfAbsent(processor, k -> new LongAdder()).increment();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (String processor : new TreeSet<>(myNanos.keySet())) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(processor).append(' ').append(myNanos.get(processor).sum() / 1000000).append("ms/")
+                    .append(myRuns.get(processor).sum());
+            }
+            return sb.toString();
+        }
+    }
+
     private class DeclaringClassFinder implements ClassInfoProcessor {
         private final int myMemberName;
         private final int myMemberDescriptor;
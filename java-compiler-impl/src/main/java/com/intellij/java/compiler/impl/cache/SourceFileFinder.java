@@ -98,7 +98,7 @@ public class SourceFileFinder {
     return null;
   }
 
-  private Map<VirtualFile, String> getAllSourceRoots() {
+  private synchronized Map<VirtualFile, String> getAllSourceRoots() {
     if (myProjectSourceRoots == null) {
       myProjectSourceRoots = new HashMap<VirtualFile, String>();
       ApplicationManager.getApplication().runReadAction(new Runnable() {
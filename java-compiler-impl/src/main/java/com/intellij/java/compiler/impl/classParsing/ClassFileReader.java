@@ -32,15 +32,24 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * Reads class file data lazily: the constant pool entries are decoded on the first access, members and attributes are parsed
+ * only if requested, so callers which need e.g. only references or only the class signature don't pay for the rest.
+ */
 public class ClassFileReader {
+  private static final ByteBuffer EMPTY_DATA = ByteBuffer.wrap(ArrayUtil.EMPTY_BYTE_ARRAY);
+
   private final File myFile;
-  private byte[] myData;
+  private ByteBuffer myData;
   private int[] myConstantPoolOffsets = null; // the last offset points to the constant pool end
+  private String[] myUtf8Values; // decoded CONSTANT_Utf8 entries by constant pool index
+  private String[] myClassNames; // CONSTANT_Utf8 entries converted to class names by constant pool index
 
   private String myQualifiedName;
   private String myGenericSignature;
@@ -55,8 +64,16 @@ public class ClassFileReader {
   private AnnotationConstantValue[] myRuntimeInvisibleAnnotations;
   private static final String CONSTRUCTOR_NAME = "<init>";
   private boolean myParsingDone;
+  private boolean myClassAttributesParsed;
 
   public ClassFileReader(File file, SymbolTable symbolTable, @Nullable final byte[] fileContent) {
+    this(file, symbolTable, fileContent != null ? ByteBuffer.wrap(fileContent) : null);
+  }
+
+  /**
+   * @param fileContent class file data from the index 0 up to the limit, heap or memory-mapped; the buffer position is not used
+   */
+  public ClassFileReader(File file, SymbolTable symbolTable, @Nullable final ByteBuffer fileContent) {
     mySymbolTable = symbolTable;
     myFile = file;
     myData = fileContent;
@@ -115,12 +132,41 @@ public class ClassFileReader {
       }
     }
 
+    parseClassAttributes(ptr);
+    myParsingDone = true;
+  }
+
+  /**
+   * Reads the class attributes, members are skipped without decoding unless they were parsed already
+   */
+  private void parseClassAttributes() throws ClsFormatException {
+    if (myClassAttributesParsed) {
+      return;
+    }
+    BytePointer ptr = new BytePointer(getData(), getConstantPoolEnd());
+    ptr.offset += 6; // access flags, this class, super class
+    int count = ClsUtil.readU2(ptr); // interface count
+    ptr.offset += 2 * count; // skip interface infos
+    for (int memberKind = 0; memberKind < 2; memberKind++) { // fields, then methods
+      count = ClsUtil.readU2(ptr);
+      while (count-- > 0) {
+        ptr.offset += 6; // access flags, name, descriptor
+        ClsUtil.skipAttributes(ptr);
+      }
+    }
+    parseClassAttributes(ptr);
+  }
+
+  private void parseClassAttributes(BytePointer ptr) throws ClsFormatException {
+    if (myClassAttributesParsed) {
+      return;
+    }
     final ClsAttributeTable attributeTable = readAttributes(ptr);
     mySourceFileName = attributeTable.sourceFile;
     myGenericSignature = attributeTable.genericSignature;
     myRuntimeVisibleAnnotations = attributeTable.runtimeVisibleAnnotations;
     myRuntimeInvisibleAnnotations = attributeTable.runtimeInvisibleAnnotations;
-    myParsingDone = true;
+    myClassAttributesParsed = true;
   }
 
   private String getSymbol(final int id) throws ClsFormatException {
@@ -137,10 +183,8 @@ public class ClassFileReader {
     int nameIndex = ClsUtil.readU2(ptr);
     int descriptorIndex = ClsUtil.readU2(ptr);
 
-    BytePointer p = new BytePointer(getData(), getOffsetInConstantPool(nameIndex));
-    String name = ClsUtil.readUtf8Info(p);
-    p.offset = getOffsetInConstantPool(descriptorIndex);
-    String descriptor = ClsUtil.readUtf8Info(p);
+    String name = readUtf8(nameIndex);
+    String descriptor = readUtf8(descriptorIndex);
 
     if (isField) {
       final ClsAttributeTable attributeTable = readAttributes(ptr);
@@ -196,8 +240,7 @@ public class ClassFileReader {
       if (tag != ClsUtil.CONSTANT_Class){
         throw new ClsFormatException();
       }
-      ptr.offset = getOffsetInConstantPool(ClsUtil.readU2(ptr));
-      myQualifiedName = ClsUtil.readUtf8Info(ptr, '/', '.'); // keep '$' in the names
+      myQualifiedName = readClassName(ClsUtil.readU2(ptr)); // keep '$' in the names
     }
     return myQualifiedName;
   }
@@ -242,7 +285,7 @@ public class ClassFileReader {
       BytePointer ptr = new BytePointer(getData(), getConstantPoolEnd() + 6);
       int count = ClsUtil.readU2(ptr);
       mySuperInterfaces = ArrayUtil.newStringArray(count);
-      BytePointer auxPtr = new BytePointer(ptr.bytes, 0);
+      BytePointer auxPtr = new BytePointer(ptr.buffer, 0);
       for (int idx = 0; idx < mySuperInterfaces.length; idx++) {
         auxPtr.offset = getOffsetInConstantPool(ClsUtil.readU2(ptr));
         mySuperInterfaces[idx] = readClassInfo(auxPtr);
@@ -253,25 +296,25 @@ public class ClassFileReader {
 
 
   public String getSourceFileName() throws ClsFormatException {
-    parseMembers();
+    parseClassAttributes();
     final String fName = mySourceFileName;
     return fName != null? fName : "";
   }
 
   public String getGenericSignature() throws ClsFormatException {
-    parseMembers();
+    parseClassAttributes();
     final String genericSignature = myGenericSignature;
     return genericSignature != null && !genericSignature.isEmpty() ? genericSignature : null;
   }
 
   public AnnotationConstantValue[] getRuntimeVisibleAnnotations() throws ClsFormatException {
-    parseMembers();
+    parseClassAttributes();
     final AnnotationConstantValue[] annotations = myRuntimeVisibleAnnotations;
     return annotations != null? annotations : AnnotationConstantValue.EMPTY_ARRAY;
   }
 
   public AnnotationConstantValue[] getRuntimeInvisibleAnnotations() throws ClsFormatException {
-    parseMembers();
+    parseClassAttributes();
     final AnnotationConstantValue[] annotations = myRuntimeInvisibleAnnotations;
     return annotations != null? annotations : AnnotationConstantValue.EMPTY_ARRAY;
   }
@@ -334,8 +377,7 @@ public class ClassFileReader {
     if (ClsUtil.CONSTANT_Class != ClsUtil.readU1(ptr)) {
       throw new ClsFormatException();
     }
-    ptr.offset = getOffsetInConstantPool(ClsUtil.readU2(ptr));
-    String className = ClsUtil.readUtf8Info(ptr, '/', '.'); // keep '$' in names
+    String className = readClassName(ClsUtil.readU2(ptr)); // keep '$' in names
 
     ptr.offset = getOffsetInConstantPool(nameTypeInfoIndex);
     if (ClsUtil.CONSTANT_NameAndType != ClsUtil.readU1(ptr)) {
@@ -344,15 +386,13 @@ public class ClassFileReader {
     int memberNameIndex = ClsUtil.readU2(ptr);
     int descriptorIndex = ClsUtil.readU2(ptr);
 
-    ptr.offset = getOffsetInConstantPool(memberNameIndex);
-    String memberName = ClsUtil.readUtf8Info(ptr);
+    String memberName = readUtf8(memberNameIndex);
 
     if ((memberName.indexOf('$') >= 0 || memberName.indexOf('<') >= 0) && !CONSTRUCTOR_NAME.equals(memberName)) { // skip refs to synthetic members
       return null;
     }
 
-    ptr.offset = getOffsetInConstantPool(descriptorIndex);
-    String descriptor = ClsUtil.readUtf8Info(ptr);
+    String descriptor = readUtf8(descriptorIndex);
 
     MemberInfo info = ClsUtil.CONSTANT_Fieldref == tag? new FieldInfo(getSymbolId(memberName), getSymbolId(descriptor)) : new MethodInfo(getSymbolId(memberName), getSymbolId(descriptor), CONSTRUCTOR_NAME.equals(memberName));
     return new MemberReferenceInfo(getSymbolId(className), info);
@@ -360,27 +400,21 @@ public class ClassFileReader {
 
   public int getAccessFlags(){
     try{
-      int offset = getConstantPoolEnd();
-      byte[] data = getData();
-      if (offset + 2 > data.length){
-        throw new ClsFormatException();
-      }
-      int b1 = data[offset++] & 0xFF;
-      int b2 = data[offset++] & 0xFF;
-      return (b1 << 8) + b2;
+      return ClsUtil.readU2(new BytePointer(getData(), getConstantPoolEnd()));
     }
     catch (ClsFormatException e){
       return 0;
     }
   }
 
-  private byte[] getData(){
+  private ByteBuffer getData(){
     if (myData == null) {
+      // not mapped: a mapping keeps the file locked on Windows until collected, but output files are moved after parsing
       try{
-        myData = Files.readAllBytes(myFile.toPath());
+        myData = ByteBuffer.wrap(Files.readAllBytes(myFile.toPath()));
       }
       catch (IOException e){
-        myData = ArrayUtil.EMPTY_BYTE_ARRAY;
+        myData = EMPTY_DATA;
       }
     }
     return myData;
@@ -394,6 +428,26 @@ public class ClassFileReader {
     return myConstantPoolOffsets[index - 1];
   }
 
+  private String readUtf8(int index) throws ClsFormatException {
+    int offset = getOffsetInConstantPool(index);
+    String value = myUtf8Values[index];
+    if (value == null) {
+      value = ClsUtil.readUtf8Info(getData(), offset);
+      myUtf8Values[index] = value;
+    }
+    return value;
+  }
+
+  private String readClassName(int index) throws ClsFormatException {
+    String className = readUtf8(index);
+    String converted = myClassNames[index];
+    if (converted == null) {
+      converted = className.replace('/', '.');
+      myClassNames[index] = converted;
+    }
+    return converted;
+  }
+
   private int getConstantPoolEnd() throws ClsFormatException {
     initConstantPool();
     return myConstantPoolOffsets[myConstantPoolOffsets.length - 1];
@@ -404,6 +458,8 @@ public class ClassFileReader {
       BytePointer ptr = new BytePointer(getData(), 0);
       ConstantPoolIterator iterator = new ConstantPoolIterator(ptr);
       myConstantPoolOffsets = new int[iterator.getEntryCount()];
+      myUtf8Values = new String[myConstantPoolOffsets.length];
+      myClassNames = new String[myConstantPoolOffsets.length];
       myConstantPoolOffsets[0] = iterator.getCurrentOffset();
       int index = 1;
       while (iterator.hasMoreEntries()) {
@@ -422,8 +478,7 @@ public class ClassFileReader {
     if (tag != ClsUtil.CONSTANT_Class){
       throw new ClsFormatException(CompilerLocalize.classParsingErrorWrongRecordTagExpectedAnother(tag, ClsUtil.CONSTANT_Class).get());
     }
-    int index = ClsUtil.readU2(ptr);
-    return ClsUtil.readUtf8Info(new BytePointer(ptr.bytes, getOffsetInConstantPool(index)), '/', '.');
+    return readClassName(ClsUtil.readU2(ptr));
   }
 
   @SuppressWarnings({"HardCodedStringLiteral"})
@@ -458,7 +513,7 @@ public class ClassFileReader {
           attributes.runtimeInvisibleParameterAnnotations = readParameterAnnotations(ptr);
           break;
         case "AnnotationDefault":
-          attributes.annotationDefault = readAnnotationMemberValue(new BytePointer(ptr.bytes, ptr.offset + 6));
+          attributes.annotationDefault = readAnnotationMemberValue(new BytePointer(ptr.buffer, ptr.offset + 6));
           break;
       }
       gotoNextAttribute(ptr);
@@ -467,10 +522,8 @@ public class ClassFileReader {
   }
 
   private String readAttributeName(BytePointer p) throws ClsFormatException {
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset);
-    final int nameIndex = ClsUtil.readU2(ptr);
-    ptr.offset = getOffsetInConstantPool(nameIndex);
-    return ClsUtil.readUtf8Info(ptr);
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset);
+    return readUtf8(ClsUtil.readU2(ptr));
   }
 
   private static void gotoNextAttribute(BytePointer ptr) throws ClsFormatException {
@@ -487,22 +540,21 @@ public class ClassFileReader {
    }
    */
   private String readSignatureAttribute(BytePointer p) throws ClsFormatException {
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset + 2); // position to the length
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset + 2); // position to the length
     if (ClsUtil.readU4(ptr) != 2) {
       return null;
     }
-    ptr.offset = getOffsetInConstantPool(ClsUtil.readU2(ptr));
-    return ClsUtil.readUtf8Info(ptr);
+    return readUtf8(ClsUtil.readU2(ptr));
   }
 
   private String[] readExceptions(BytePointer p) throws ClsFormatException{
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset + 6); // position to the count of exceptions
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset + 6); // position to the count of exceptions
     int count = ClsUtil.readU2(ptr);
     final ArrayList<String> array = new ArrayList<>(count);
     while (count-- > 0) {
       int idx = ClsUtil.readU2(ptr);
       if (idx != 0) {
-        final String exceptionClass = readClassInfo(new BytePointer(ptr.bytes, getOffsetInConstantPool(idx)));
+        final String exceptionClass = readClassInfo(new BytePointer(ptr.buffer, getOffsetInConstantPool(idx)));
         array.add(exceptionClass);
       }
     }
@@ -510,12 +562,11 @@ public class ClassFileReader {
   }
 
   private String readSourceFileAttribute(BytePointer p) throws ClsFormatException {
-    BytePointer ptr = new BytePointer(p.bytes, p.offset + 2); // position to the length
+    BytePointer ptr = new BytePointer(p.buffer, p.offset + 2); // position to the length
     if (ClsUtil.readU4(ptr) != 2) {
       return null;
     }
-    ptr.offset = getOffsetInConstantPool(ClsUtil.readU2(ptr));
-    String path = ClsUtil.readUtf8Info(ptr);
+    String path = readUtf8(ClsUtil.readU2(ptr));
     // jdk version 1.3.0 puts full path to the source, but later versions store only short name
     final int slashIndex = path.lastIndexOf('/');
     if (slashIndex >= 0) {
@@ -525,7 +576,7 @@ public class ClassFileReader {
   }
 
   private ConstantValue readFieldConstantValue(BytePointer p) throws ClsFormatException{
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset + 2);
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset + 2);
     if (ClsUtil.readU4(ptr) != 2) {
       throw new ClsFormatException(); // attribute length must be 2
     }
@@ -553,19 +604,18 @@ public class ClassFileReader {
         return new DoubleConstantValue(doubleValue);
       case ClsUtil.CONSTANT_String :
         int stringIndex = ClsUtil.readU2(ptr);
-        ptr.offset = getOffsetInConstantPool(stringIndex);
-        return new StringConstantValue(ClsUtil.readUtf8Info(ptr));
+        return new StringConstantValue(readUtf8(stringIndex));
       default : throw new ClsFormatException();
     }
   }
 
   private AnnotationConstantValue[] readAnnotations(BytePointer p) throws ClsFormatException {
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset + 6);
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset + 6);
     return readAnnotationsArray(ptr);
   }
 
   private AnnotationConstantValue[][] readParameterAnnotations(BytePointer p) throws ClsFormatException {
-    final BytePointer ptr = new BytePointer(p.bytes, p.offset + 6); // position to the number of parameters
+    final BytePointer ptr = new BytePointer(p.buffer, p.offset + 6); // position to the number of parameters
     final int numberOfParams = ClsUtil.readU1(ptr);
     if (numberOfParams == 0) {
       return null;
@@ -591,12 +641,12 @@ public class ClassFileReader {
 
   private AnnotationConstantValue readAnnotation(BytePointer ptr) throws ClsFormatException {
     final int classInfoIndex = ClsUtil.readU2(ptr);
-    final String qName = readAnnotationClassName(new BytePointer(ptr.bytes, getOffsetInConstantPool(classInfoIndex)));
+    final String qName = readAnnotationClassName(new BytePointer(ptr.buffer, getOffsetInConstantPool(classInfoIndex)));
     final List<AnnotationNameValuePair> memberValues = new ArrayList<>();
     final int numberOfPairs = ClsUtil.readU2(ptr);
     for (int idx = 0; idx < numberOfPairs; idx++) {
       final int memberNameIndex = ClsUtil.readU2(ptr);
-      final String memberName = ClsUtil.readUtf8Info(ptr.bytes, getOffsetInConstantPool(memberNameIndex));
+      final String memberName = readUtf8(memberNameIndex);
       final ConstantValue memberValue = readAnnotationMemberValue(ptr);
       memberValues.add(new AnnotationNameValuePair(getSymbolId(memberName), memberValue));
     }
@@ -608,7 +658,7 @@ public class ClassFileReader {
     // it is not clear what structure is expected: CONSTANT_Utf8 or CONSTANT_Class
     final int tag = ClsUtil.readU1(ptr);
     if (tag == ClsUtil.CONSTANT_Utf8) {
-      return ClsUtil.getTypeText(ptr.bytes, ptr.offset + 2); //skip length
+      return ClsUtil.getTypeText(ptr.buffer, ptr.offset + 2); //skip length
     }
     if (tag == ClsUtil.CONSTANT_Class){
       ptr.offset -= 1; // rollback
@@ -633,22 +683,22 @@ public class ClassFileReader {
       case 'S':
       case 'Z': {
         final int valueIndex = ClsUtil.readU2(ptr);
-        return new AnnotationPrimitiveConstantValue(tag, readConstant(new BytePointer(ptr.bytes, getOffsetInConstantPool(valueIndex))));
+        return new AnnotationPrimitiveConstantValue(tag, readConstant(new BytePointer(ptr.buffer, getOffsetInConstantPool(valueIndex))));
       }
       case 's': {
         final int valueIndex = ClsUtil.readU2(ptr);
-        return new StringConstantValue(ClsUtil.readUtf8Info(ptr.bytes, getOffsetInConstantPool(valueIndex)));
+        return new StringConstantValue(readUtf8(valueIndex));
       }
       case 'e': {
         final int typeNameIndex = ClsUtil.readU2(ptr);
         final int constantNameIndex = ClsUtil.readU2(ptr);
-        final String typeName = ClsUtil.readUtf8Info(ptr.bytes, getOffsetInConstantPool(typeNameIndex));
-        final String constantName = ClsUtil.readUtf8Info(ptr.bytes, getOffsetInConstantPool(constantNameIndex));
+        final String typeName = readUtf8(typeNameIndex);
+        final String constantName = readUtf8(constantNameIndex);
         return new EnumConstantValue(getSymbolId(typeName), getSymbolId(constantName));
       }
       case 'c' : {
         final int classInfoIndex = ClsUtil.readU2(ptr);
-        BytePointer p = new BytePointer(ptr.bytes, getOffsetInConstantPool(classInfoIndex));
+        BytePointer p = new BytePointer(ptr.buffer, getOffsetInConstantPool(classInfoIndex));
         final int recordTag = ClsUtil.readU1(p);
         if (recordTag != ClsUtil.CONSTANT_Utf8) {
           throw new ClsFormatException(
@@ -656,7 +706,7 @@ public class ClassFileReader {
           );
         }
         p.offset += 2; //Skip length
-        final String className = ClsUtil.getTypeText(p.bytes, p.offset);
+        final String className = ClsUtil.getTypeText(p.buffer, p.offset);
         return new ClassInfoConstantValue(getSymbolId(className));
       }
       case '@' : {
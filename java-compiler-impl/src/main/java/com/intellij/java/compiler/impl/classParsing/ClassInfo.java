@@ -17,18 +17,24 @@ package com.intellij.java.compiler.impl.classParsing;
 
 import consulo.compiler.CacheCorruptedException;
 import com.intellij.java.compiler.impl.cache.SymbolTable;
+import com.intellij.java.compiler.impl.util.cls.ClsUtil;
 import consulo.util.collection.ArrayUtil;
 import com.intellij.java.language.util.cls.ClsFormatException;
 import consulo.logging.Logger;
 
-import java.io.DataInput;
-import java.io.DataOutput;
-import java.io.IOException;
+import java.io.*;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
 /**
+ * Class info stored in the dependency cache.
+ * <p>
+ * The stored record has a header with the class name, super types, flags, paths and ABI fingerprint, which is read eagerly, and
+ * length-prefixed sections with members, references and annotations. Sections are kept as bytes and decoded on first
+ * access, so the lookups of super classes, paths and flags made by dependency processors don't build the member graph.
+ * Sections which were not decoded are saved back as they are.
+ *
  * @author Eugene Zhuravlev
  */
 public final class ClassInfo implements Cloneable {
@@ -43,11 +49,17 @@ public final class ClassInfo implements Cloneable {
   private String myPath;
   private final String mySourceFileName;
   private final int[] mySuperInterfaces;
-  private final FieldInfo[] myFields;
-  private final MethodInfo[] myMethods;
+  private final long myAbiFingerprint;
+  private FieldInfo[] myFields;
+  private MethodInfo[] myMethods;
   private ReferenceInfo[] myReferences;
-  private final AnnotationConstantValue[] myRuntimeVisibleAnnotations;
-  private final AnnotationConstantValue[] myRuntimeInvisibleAnnotations;
+  private AnnotationConstantValue[] myRuntimeVisibleAnnotations;
+  private AnnotationConstantValue[] myRuntimeInvisibleAnnotations;
+
+  // not decoded sections, null if decoded
+  private byte[] myMembersData;
+  private byte[] myReferencesData;
+  private byte[] myAnnotationsData;
 
   public ClassInfo(ClassFileReader reader, SymbolTable symbolTable) throws CacheCorruptedException {
     try {
@@ -84,7 +96,9 @@ public final class ClassInfo implements Cloneable {
 
       myFields = reader.getFields();
       myMethods = reader.getMethods();
-    } catch (ClsFormatException e) {
+
+      myAbiFingerprint = computeAbiFingerprint();
+    } catch (ClsFormatException | IOException e) {
       throw new CacheCorruptedException(e);
     }
   }
@@ -102,27 +116,11 @@ public final class ClassInfo implements Cloneable {
     for (int idx = 0; idx < ifaceCount; idx++) {
       mySuperInterfaces[idx] = in.readInt();
     }
+    myAbiFingerprint = in.readLong();
 
-    final int fieldCount = in.readInt();
-    myFields = new FieldInfo[fieldCount];
-    for (int idx = 0; idx < fieldCount; idx++) {
-      myFields[idx] = new FieldInfo(in);
-    }
-
-    final int methodCount = in.readInt();
-    myMethods = new MethodInfo[methodCount];
-    for (int idx = 0; idx < methodCount; idx++) {
-      myMethods[idx] = new MethodInfo(in);
-    }
-
-    final int refCount = in.readInt();
-    myReferences = refCount > 0 ? new ReferenceInfo[refCount] : EMPTY_REF_ARRAY;
-    for (int idx = 0; idx < refCount; idx++) {
-      myReferences[idx] = MemberInfoExternalizer.loadReferenceInfo(in);
-    }
-
-    myRuntimeVisibleAnnotations = MemberInfoExternalizer.readAnnotationConstantValueArray1(in);
-    myRuntimeInvisibleAnnotations = MemberInfoExternalizer.readAnnotationConstantValueArray1(in);
+    myMembersData = readSection(in);
+    myReferencesData = readSection(in);
+    myAnnotationsData = readSection(in);
   }
 
   public ClassInfo clone() {
@@ -133,7 +131,7 @@ public final class ClassInfo implements Cloneable {
     }
   }
 
-  public void save(DataOutput out) throws IOException {
+  public synchronized void save(DataOutput out) throws IOException {
     out.writeInt(myQualifiedName);
     out.writeInt(mySuperQualifiedName);
     out.writeInt(myGenericSignature);
@@ -144,7 +142,16 @@ public final class ClassInfo implements Cloneable {
     for (int ifaceQName : mySuperInterfaces) {
       out.writeInt(ifaceQName);
     }
+    out.writeLong(myAbiFingerprint);
 
+    writeSection(out, myMembersData != null ? myMembersData : encodeMembers());
+    writeSection(out, myReferencesData != null ? myReferencesData : encodeReferences());
+    writeSection(out, myAnnotationsData != null ? myAnnotationsData : encodeAnnotations());
+  }
+
+  private byte[] encodeMembers() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
     out.writeInt(myFields.length);
     for (FieldInfo field : myFields) {
       field.save(out);
@@ -154,14 +161,153 @@ public final class ClassInfo implements Cloneable {
     for (MethodInfo method : myMethods) {
       method.save(out);
     }
+    out.flush();
+    return bytes.toByteArray();
+  }
 
+  private byte[] encodeReferences() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
     out.writeInt(myReferences.length);
     for (ReferenceInfo info : myReferences) {
       MemberInfoExternalizer.saveReferenceInfo(out, info);
     }
+    out.flush();
+    return bytes.toByteArray();
+  }
 
+  private byte[] encodeAnnotations() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
     MemberInfoExternalizer.writeConstantValueArray1(out, myRuntimeVisibleAnnotations);
     MemberInfoExternalizer.writeConstantValueArray1(out, myRuntimeInvisibleAnnotations);
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Hash of the class parts other classes can depend on: flags, super types, generic signature, annotations and
+   * non-synthetic members with their flags, constant values, annotations and thrown exceptions. Method bodies, references
+   * and synthetic members (lambda bodies, accessors) don't affect it, and neither does the order of members.
+   */
+  private long computeAbiFingerprint() throws IOException {
+    long[] memberHashes = new long[myFields.length + myMethods.length];
+    int count = 0;
+    for (FieldInfo field : myFields) {
+      if (!ClsUtil.isSynthetic(field.getFlags())) {
+        memberHashes[count++] = hashMember(field);
+      }
+    }
+    for (MethodInfo method : myMethods) {
+      if (!ClsUtil.isSynthetic(method.getFlags())) {
+        memberHashes[count++] = hashMember(method);
+      }
+    }
+    Arrays.sort(memberHashes, 0, count);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(myFlags);
+    out.writeInt(mySuperQualifiedName);
+    out.writeInt(myGenericSignature);
+    out.writeInt(mySuperInterfaces.length);
+    for (int ifaceQName : mySuperInterfaces) {
+      out.writeInt(ifaceQName);
+    }
+    MemberInfoExternalizer.writeConstantValueArray1(out, myRuntimeVisibleAnnotations);
+    MemberInfoExternalizer.writeConstantValueArray1(out, myRuntimeInvisibleAnnotations);
+    out.writeInt(count);
+    for (int idx = 0; idx < count; idx++) {
+      out.writeLong(memberHashes[idx]);
+    }
+    out.flush();
+    return hash(bytes.toByteArray());
+  }
+
+  private static long hashMember(MemberInfo member) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    member.save(out);
+    out.flush();
+    return hash(bytes.toByteArray());
+  }
+
+  // 64-bit FNV-1a
+  private static long hash(byte[] data) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : data) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private void decodeMembers() {
+    if (myMembersData == null) {
+      return;
+    }
+
+    try {
+      DataInput in = new DataInputStream(new ByteArrayInputStream(myMembersData));
+      final int fieldCount = in.readInt();
+      myFields = new FieldInfo[fieldCount];
+      for (int idx = 0; idx < fieldCount; idx++) {
+        myFields[idx] = new FieldInfo(in);
+      }
+
+      final int methodCount = in.readInt();
+      myMethods = new MethodInfo[methodCount];
+      for (int idx = 0; idx < methodCount; idx++) {
+        myMethods[idx] = new MethodInfo(in);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    myMembersData = null;
+  }
+
+  private void decodeReferences() {
+    if (myReferencesData == null) {
+      return;
+    }
+
+    try {
+      DataInput in = new DataInputStream(new ByteArrayInputStream(myReferencesData));
+      final int refCount = in.readInt();
+      myReferences = refCount > 0 ? new ReferenceInfo[refCount] : EMPTY_REF_ARRAY;
+      for (int idx = 0; idx < refCount; idx++) {
+        myReferences[idx] = MemberInfoExternalizer.loadReferenceInfo(in);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    myReferencesData = null;
+  }
+
+  private void decodeAnnotations() {
+    if (myAnnotationsData == null) {
+      return;
+    }
+
+    try {
+      DataInput in = new DataInputStream(new ByteArrayInputStream(myAnnotationsData));
+      myRuntimeVisibleAnnotations = MemberInfoExternalizer.readAnnotationConstantValueArray1(in);
+      myRuntimeInvisibleAnnotations = MemberInfoExternalizer.readAnnotationConstantValueArray1(in);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    myAnnotationsData = null;
+  }
+
+  private static byte[] readSection(DataInput in) throws IOException {
+    byte[] data = new byte[in.readInt()];
+    in.readFully(data);
+    return data;
+  }
+
+  private static void writeSection(DataOutput out, byte[] data) throws IOException {
+    out.writeInt(data.length);
+    out.write(data);
   }
 
   public int getQualifiedName() {
@@ -196,27 +342,40 @@ public final class ClassInfo implements Cloneable {
     return mySourceFileName;
   }
 
-  public AnnotationConstantValue[] getRuntimeVisibleAnnotations() {
+  /**
+   * @return hash of the class ABI, equal fingerprints mean that dependent classes don't need recompilation
+   */
+  public long getAbiFingerprint() {
+    return myAbiFingerprint;
+  }
+
+  public synchronized AnnotationConstantValue[] getRuntimeVisibleAnnotations() {
+    decodeAnnotations();
     return myRuntimeVisibleAnnotations;
   }
 
-  public AnnotationConstantValue[] getRuntimeInvisibleAnnotations() {
+  public synchronized AnnotationConstantValue[] getRuntimeInvisibleAnnotations() {
+    decodeAnnotations();
     return myRuntimeInvisibleAnnotations;
   }
 
-  public ReferenceInfo[] getReferences() {
+  public synchronized ReferenceInfo[] getReferences() {
+    decodeReferences();
     return myReferences;
   }
 
-  public void clearReferences() {
+  public synchronized void clearReferences() {
     myReferences = EMPTY_REF_ARRAY;
+    myReferencesData = null;
   }
 
-  public FieldInfo[] getFields() {
+  public synchronized FieldInfo[] getFields() {
+    decodeMembers();
     return myFields;
   }
 
-  public MethodInfo[] getMethods() {
+  public synchronized MethodInfo[] getMethods() {
+    decodeMembers();
     return myMethods;
   }
 
@@ -236,16 +395,16 @@ public final class ClassInfo implements Cloneable {
         Objects.equals(myPath, classInfo.myPath) &&
         Objects.equals(mySourceFileName, classInfo.mySourceFileName) &&
         Arrays.equals(mySuperInterfaces, classInfo.mySuperInterfaces) &&
-        Arrays.equals(myFields, classInfo.myFields) &&
-        Arrays.equals(myMethods, classInfo.myMethods) &&
-        Arrays.equals(myReferences, classInfo.myReferences) &&
-        Arrays.equals(myRuntimeVisibleAnnotations, classInfo.myRuntimeVisibleAnnotations) &&
-        Arrays.equals(myRuntimeInvisibleAnnotations, classInfo.myRuntimeInvisibleAnnotations);
+        Arrays.equals(getFields(), classInfo.getFields()) &&
+        Arrays.equals(getMethods(), classInfo.getMethods()) &&
+        Arrays.equals(getReferences(), classInfo.getReferences()) &&
+        Arrays.equals(getRuntimeVisibleAnnotations(), classInfo.getRuntimeVisibleAnnotations()) &&
+        Arrays.equals(getRuntimeInvisibleAnnotations(), classInfo.getRuntimeInvisibleAnnotations());
   }
 
   @Override
   public int hashCode() {
-    return MethodInfo.hashCode(myQualifiedName, myGenericSignature, mySuperQualifiedName, myFlags, myPath, mySourceFileName, mySuperInterfaces, myFields, myMethods, myReferences,
-        myRuntimeVisibleAnnotations, myRuntimeInvisibleAnnotations);
+    return MethodInfo.hashCode(myQualifiedName, myGenericSignature, mySuperQualifiedName, myFlags, myPath, mySourceFileName, mySuperInterfaces, getFields(), getMethods(),
+        getReferences(), getRuntimeVisibleAnnotations(), getRuntimeInvisibleAnnotations());
   }
 }
\ No newline at end of file
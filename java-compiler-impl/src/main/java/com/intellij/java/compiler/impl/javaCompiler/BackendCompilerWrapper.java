@@ -34,6 +34,7 @@ import consulo.compiler.util.CompilerUtil;
 import consulo.content.ContentIterator;
 import consulo.java.compiler.impl.javaCompiler.BackendCompilerMonitor;
 import consulo.java.compiler.impl.javaCompiler.BackendCompilerProcessBuilder;
+import consulo.java.compiler.impl.javaCompiler.CompileProfiler;
 import consulo.language.file.FileTypeManager;
 import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.language.psi.scope.GlobalSearchScopesCore;
@@ -69,6 +70,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Eugene Zhuravlev
@@ -76,8 +78,6 @@ import java.util.concurrent.*;
  */
 public class BackendCompilerWrapper
 {
-	public static final Key<ClassParsingHandler> CLASS_PARSING_HANDLER_KEY = Key.create(ClassParsingHandler.class.getName());
-
 	private static final Logger LOG = Logger.getInstance(BackendCompilerWrapper.class);
 
 	private final BackendCompiler myCompiler;
@@ -95,6 +95,7 @@ public class BackendCompilerWrapper
 	public final Map<String, Set<CompiledClass>> myFileNameToSourceMap = new HashMap<>();
 	private final Set<VirtualFile> myProcessedPackageInfos = new HashSet<>();
 	private final CompileStatistics myStatistics;
+	private final CompileProfiler myProfiler;
 	private volatile String myModuleName = null;
 	private boolean myForceCompileTestsSeparately = false;
 
@@ -116,13 +117,13 @@ public class BackendCompilerWrapper
 		myFilesToCompile = filesToCompile;
 		mySink = sink;
 		myProjectFileIndex = ProjectRootManager.getInstance(myProject).getFileIndex();
-		CompileStatistics stat = compileContext.getUserData(CompileStatistics.KEY);
-		if (stat == null)
+		myStatistics = CompileStatistics.getInstance(compileContext);
+		myProfiler = CompileProfiler.getInstance(compileContext);
+		JavaDependencyCache dependencyCache = compileContext.getDependencyCache().findChild(JavaDependencyCache.class);
+		if (dependencyCache != null)
 		{
-			stat = new CompileStatistics();
-			compileContext.putUserData(CompileStatistics.KEY, stat);
+			dependencyCache.setProfiler(myProfiler);
 		}
-		myStatistics = stat;
 	}
 
 	public void compile(Map<File, FileObject> parsingInfo) throws CompilerException, CacheCorruptedException
@@ -429,9 +430,8 @@ public class BackendCompilerWrapper
 		{
 			ClassParsingHandler classParsingHandler = new ClassParsingHandler(parsingInfo);
 
-			myCompileContext.putUserData(CLASS_PARSING_HANDLER_KEY, classParsingHandler);
-
 			processBuilder = myCompiler.prepareProcess(chunk, outputDir, myCompileContext);
+			processBuilder.setClassParsingHandler(classParsingHandler);
 
 			BackendCompilerMonitor monitor = myCompiler.createMonitor(processBuilder);
 
@@ -439,6 +439,8 @@ public class BackendCompilerWrapper
 
 			assert commandLine != null;
 
+			CompileProfiler.Span javacSpan = myProfiler.start(CompileProfiler.CATEGORY_JAVAC, myModuleName).arg("output", outputDir);
+
 			ProcessHandler process;
 			try
 			{
@@ -496,6 +498,8 @@ public class BackendCompilerWrapper
 			}
 			finally
 			{
+				javacSpan.close();
+
 				if (errorParsingThread != null)
 				{
 					errorParsingThread.stopParsing();
@@ -505,13 +509,15 @@ public class BackendCompilerWrapper
 				{
 					outputParsingHandler.stopParsing();
 				}
-				classParsingHandler.stopParsing();
 
+				// no classes are received after the monitor is disposed, so nothing is queued after the stop token
 				if (monitor != null)
 				{
 					monitor.disposeWithTree();
 				}
+				classParsingHandler.stopParsing();
 
+				// classes received in memory are written by the handler, so it should finish before the output is moved
 				waitABit(classParsingFuture);
 				waitABit(errorParsingFuture);
 				waitABit(outputParsingFuture);
@@ -695,6 +701,7 @@ public class BackendCompilerWrapper
 
 		final List<File> toRefresh = new ArrayList<>();
 		final Map<String, Collection<TranslatingCompiler.OutputItem>> results = new HashMap<>();
+		CompileProfiler.Span span = myProfiler.start(CompileProfiler.CATEGORY_OUTPUT, "move to output").arg("output", outputDir);
 		try
 		{
 			final FileTypeManager typeManager = FileTypeManager.getInstance();
@@ -728,6 +735,7 @@ public class BackendCompilerWrapper
 		}
 		finally
 		{
+			span.arg("files", toRefresh.size()).close();
 			CompilerUtil.refreshIOFiles(toRefresh);
 			for (Iterator<Map.Entry<String, Collection<TranslatingCompiler.OutputItem>>> it = results.entrySet().iterator(); it.hasNext(); )
 			{
@@ -1043,7 +1051,8 @@ public class BackendCompilerWrapper
 	public class ClassParsingHandler implements Runnable
 	{
 		private final BlockingQueue<FileObject> myPaths = new ArrayBlockingQueue<>(50000);
-		private CacheCorruptedException myError = null;
+		private volatile CacheCorruptedException myError = null;
+		private volatile boolean myFinished;
 		private final JavaDependencyCache myJavaDependencyCache;
 		private final Map<File, FileObject> myParsingInfo;
 
@@ -1059,6 +1068,10 @@ public class BackendCompilerWrapper
 		public void run()
 		{
 			processing = true;
+			// the handler lives as long as javac, so the busy time is reported separately
+			CompileProfiler.Span span = myProfiler.start(CompileProfiler.CATEGORY_CLASS_PARSING, "parse classes").arg("chunk", String.valueOf(myModuleName));
+			int classes = 0;
+			long busyNanos = 0;
 			try
 			{
 				while (true)
@@ -1069,7 +1082,10 @@ public class BackendCompilerWrapper
 					{
 						break;
 					}
+					long start = System.nanoTime();
 					processPath(path);
+					busyNanos += System.nanoTime() - start;
+					classes++;
 				}
 			}
 			catch (InterruptedException e)
@@ -1082,6 +1098,16 @@ public class BackendCompilerWrapper
 			}
 			finally
 			{
+				myFinished = true;
+				// classes which are still queued exist only in memory
+				for (FileObject path = myPaths.poll(); path != null; path = myPaths.poll())
+				{
+					if (path != ourStopThreadToken)
+					{
+						saveIfNeeded(path);
+					}
+				}
+				span.arg("classes", classes).arg("busyMs", busyNanos / 1000000).close();
 				processing = false;
 			}
 		}
@@ -1090,14 +1116,49 @@ public class BackendCompilerWrapper
 		{
 			if (myError != null)
 			{
+				saveIfNeeded(path);
 				throw myError;
 			}
-			myPaths.offer(path);
+
+			try
+			{
+				// waits while the queue is full, a dropped class received in memory would never be written
+				while (!myPaths.offer(path, 100, TimeUnit.MILLISECONDS))
+				{
+					if (myFinished)
+					{
+						saveIfNeeded(path);
+						return;
+					}
+				}
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				saveIfNeeded(path);
+				return;
+			}
+
+			if (myFinished && myPaths.remove(path))
+			{
+				// the handler stopped before the class was taken
+				saveIfNeeded(path);
+			}
 		}
 
 		public void stopParsing()
 		{
-			myPaths.offer(ourStopThreadToken);
+			try
+			{
+				while (!myFinished && !myPaths.offer(ourStopThreadToken, 100, TimeUnit.MILLISECONDS))
+				{
+					// waits while the queue is full, unless the handler already stopped on an error
+				}
+			}
+			catch (InterruptedException e)
+			{
+				LOG.error(e);
+			}
 		}
 
 		private void processPath(FileObject fileObject) throws CacheCorruptedException
@@ -1132,36 +1193,63 @@ public class BackendCompilerWrapper
 			}
 			finally
 			{
+				// classes received from the compiler in memory are written after the dependency cache is updated
+				saveIfNeeded(fileObject);
+
 				myStatistics.incClassesCount();
 				updateStatistics();
 			}
 		}
+
+		private void saveIfNeeded(FileObject fileObject)
+		{
+			try
+			{
+				fileObject.saveIfNeeded();
+			}
+			catch (IOException e)
+			{
+				myCompileContext.addMessage(CompilerMessageCategory.ERROR, e.getMessage(), null, -1, -1);
+				LOG.info(e);
+			}
+		}
 	}
 
 	private static final class CompileStatistics
 	{
 		private static final Key<CompileStatistics> KEY = Key.create("_Compile_Statistics_");
-		private int myClassesCount;
-		private int myFilesCount;
+		private final AtomicInteger myClassesCount = new AtomicInteger();
+		private final AtomicInteger myFilesCount = new AtomicInteger();
+
+		public static CompileStatistics getInstance(CompileContext compileContext)
+		{
+			CompileStatistics stat = compileContext.getUserData(KEY);
+			if (stat == null)
+			{
+				stat = new CompileStatistics();
+				compileContext.putUserData(KEY, stat);
+			}
+			return stat;
+		}
 
 		public int getClassesCount()
 		{
-			return myClassesCount;
+			return myClassesCount.get();
 		}
 
 		public int incClassesCount()
 		{
-			return ++myClassesCount;
+			return myClassesCount.incrementAndGet();
 		}
 
 		public int getFilesCount()
 		{
-			return myFilesCount;
+			return myFilesCount.get();
 		}
 
 		public int incFilesCount()
 		{
-			return ++myFilesCount;
+			return myFilesCount.incrementAndGet();
 		}
 	}
 }
@@ -33,6 +33,7 @@ public class FileObject
 	private final File myFile;
 	private byte[] myContent;
 	private int myClassId = -1;
+	private boolean mySaved = true;
 
 	public FileObject(File file, byte[] content)
 	{
@@ -40,6 +41,16 @@ public class FileObject
 		myContent = content;
 	}
 
+	/**
+	 * @param saved false if the content was received from the compiler and is not written to the file yet
+	 */
+	public FileObject(File file, byte[] content, boolean saved)
+	{
+		myFile = file;
+		myContent = content;
+		mySaved = saved;
+	}
+
 	public FileObject(File file)
 	{
 		myFile = file;
@@ -70,9 +81,26 @@ public class FileObject
 		return myContent;
 	}
 
+	public boolean isSaved()
+	{
+		return mySaved;
+	}
+
+	/**
+	 * Writes the content received from the compiler, if it is not written yet
+	 */
+	public void saveIfNeeded() throws IOException
+	{
+		if(!mySaved)
+		{
+			save(myContent);
+		}
+	}
+
 	public boolean save(byte[] content) throws IOException
 	{
 		myContent = content;
+		mySaved = true;
 
 		try
 		{
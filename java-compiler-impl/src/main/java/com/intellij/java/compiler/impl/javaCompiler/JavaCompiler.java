@@ -24,6 +24,7 @@ import consulo.compiler.*;
 import consulo.compiler.localize.CompilerLocalize;
 import consulo.compiler.scope.CompileScope;
 import consulo.content.ContentFolderTypeProvider;
+import consulo.java.compiler.impl.javaCompiler.CompileProfiler;
 import consulo.java.language.module.extension.JavaModuleExtension;
 import consulo.language.content.ProductionResourceContentFolderTypeProvider;
 import consulo.language.content.TestResourceContentFolderTypeProvider;
@@ -37,6 +38,7 @@ import consulo.util.collection.Maps;
 import consulo.util.dataholder.Key;
 import consulo.util.io.FileUtil;
 import consulo.util.lang.ExceptionUtil;
+import consulo.util.lang.StringUtil;
 import consulo.virtualFileSystem.VirtualFile;
 import consulo.virtualFileSystem.fileType.FileType;
 import jakarta.inject.Inject;
@@ -94,16 +96,18 @@ public class JavaCompiler implements TranslatingCompiler {
     context.putUserData(ourOutputFileParseInfo, parsingInfo);
 
     final BackendCompiler backEndCompiler = getBackEndCompiler();
+    final List<VirtualFile> filesToCompile = filterResourceFiles(context, files);
     final BackendCompilerWrapper wrapper = new BackendCompilerWrapper(
       this,
       moduleChunk,
       myProject,
-      filterResourceFiles(context, files),
+      filesToCompile,
       (CompileContextEx)context,
       backEndCompiler,
       sink
     );
-    try {
+    try (CompileProfiler.Span span = CompileProfiler.getInstance(context).start(CompileProfiler.CATEGORY_CHUNK, StringUtil.join(moduleChunk.getNodes(), Module::getName, ", "))) {
+      span.arg("files", filesToCompile.size()).arg("compiler", backEndCompiler.getPresentableName().get());
       wrapper.compile(parsingInfo);
     }
     catch (CompilerException e) {
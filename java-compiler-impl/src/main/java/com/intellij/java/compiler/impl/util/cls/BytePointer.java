@@ -15,14 +15,25 @@
  */
 package com.intellij.java.compiler.impl.util.cls;
 
+import java.nio.ByteBuffer;
+
+/**
+ * Position in the class file data. The data is accessed by absolute indices, so the buffer may be shared by several pointers
+ * and may be either a heap or a memory-mapped one.
+ */
 public class BytePointer
 {
-	public final byte[] bytes;
+	public final ByteBuffer buffer;
 	public int offset;
 
 	public BytePointer(byte[] bytes, int offset)
 	{
-		this.bytes = bytes;
+		this(ByteBuffer.wrap(bytes), offset);
+	}
+
+	public BytePointer(ByteBuffer buffer, int offset)
+	{
+		this.buffer = buffer;
 		this.offset = offset;
 	}
 }
@@ -18,6 +18,8 @@ package com.intellij.java.compiler.impl.util.cls;
 import consulo.util.lang.StringUtil;
 import com.intellij.java.language.util.cls.ClsFormatException;
 
+import java.nio.ByteBuffer;
+
 
 public class ClsUtil {
   public static final int MAGIC = 0xCAFEBABE;
@@ -69,10 +71,10 @@ public class ClsUtil {
   private static final long NEGATIVE_INFINITY_AS_LONG = 0xff80000000000000L;
 
   public static int readU1(BytePointer ptr) throws ClsFormatException {
-    if (ptr.offset < 0 || ptr.offset >= ptr.bytes.length) {
+    if (ptr.offset < 0 || ptr.offset >= ptr.buffer.limit()) {
       throw new ClsFormatException();
     }
-    return ptr.bytes[ptr.offset++] & 0xFF;
+    return ptr.buffer.get(ptr.offset++) & 0xFF;
   }
 
   public static int readU2(BytePointer ptr) throws ClsFormatException {
@@ -112,37 +114,26 @@ public class ClsUtil {
       throw new ClsFormatException();
     }
     int length = readU2(ptr);
-    return readUtf8(ptr.bytes, ptr.offset, ptr.offset + length, oldChar, newChar);
+    if (ptr.offset + length > ptr.buffer.limit()) {
+      throw new ClsFormatException();
+    }
+    return readUtf8(ptr.buffer, ptr.offset, ptr.offset + length, oldChar, newChar);
   }
 
   public static String readUtf8Info(byte[] bytes, int startOffset) throws ClsFormatException {
-    int offset = startOffset;
-    if (offset + 3 > bytes.length) {
-      throw new ClsFormatException();
-    }
-    int tag = bytes[offset++] & 0xFF;
-    if (tag != CONSTANT_Utf8) {
-      throw new ClsFormatException();
-    }
-    int b1 = bytes[offset++] & 0xFF;
-    int b2 = bytes[offset++] & 0xFF;
-    int length = (b1 << 8) + b2;
-    if (offset + length > bytes.length) {
-      throw new ClsFormatException();
-    }
-    return readUtf8(bytes, offset, offset + length);
+    return readUtf8Info(ByteBuffer.wrap(bytes), startOffset);
   }
 
-  private static String readUtf8(byte[] bytes, int startOffset, int endOffset) throws ClsFormatException {
-    return readUtf8(bytes, startOffset, endOffset, -1, -1);
+  public static String readUtf8Info(ByteBuffer bytes, int startOffset) throws ClsFormatException {
+    return readUtf8Info(new BytePointer(bytes, startOffset));
   }
 
-  private static String readUtf8(byte[] bytes, int startOffset, int endOffset, int oldChar, int newChar) throws ClsFormatException {
+  private static String readUtf8(ByteBuffer bytes, int startOffset, int endOffset, int oldChar, int newChar) throws ClsFormatException {
     char[] buffer = new char[endOffset - startOffset];
     int bOffset = 0;
     int offset = startOffset;
     while (offset < endOffset) {
-      int b = bytes[offset++] & 0xFF;
+      int b = bytes.get(offset++) & 0xFF;
       if (b == 0 || b >= 0xF0) {
         throw new ClsFormatException();
       }
@@ -152,14 +143,14 @@ public class ClsUtil {
         if (offset == endOffset) {
           throw new ClsFormatException();
         }
-        int b1 = bytes[offset++] & 0xFF;
+        int b1 = bytes.get(offset++) & 0xFF;
         if ((b & 0x20) == 0) {
           buffer[bOffset++] = (char) (((b & 0x1F) << 6) + (b1 & 0x3F));
         } else {
           if (offset == endOffset) {
             throw new ClsFormatException();
           }
-          int b2 = bytes[offset++] & 0xFF;
+          int b2 = bytes.get(offset++) & 0xFF;
           buffer[bOffset++] = (char) (((b & 0xF) << 12) + ((b1 & 0x3F) << 6) + (b2 & 0x3F));
         }
       }
@@ -220,14 +211,18 @@ public class ClsUtil {
     }
   }
 
-  @SuppressWarnings({"HardCodedStringLiteral"})
   public static String getTypeText(byte[] data, int offset) throws ClsFormatException {
+    return getTypeText(ByteBuffer.wrap(data), offset);
+  }
+
+  @SuppressWarnings({"HardCodedStringLiteral"})
+  public static String getTypeText(ByteBuffer data, int offset) throws ClsFormatException {
     int count = 0;
     while (true) {
-      if (offset >= data.length) {
+      if (offset >= data.limit()) {
         throw new ClsFormatException();
       }
-      if (data[offset] != '[') {
+      if (data.get(offset) != '[') {
         break;
       }
       offset++;
@@ -235,7 +230,7 @@ public class ClsUtil {
     }
 
     String text;
-    switch ((char) data[offset]) {
+    switch ((char) data.get(offset)) {
       default:
         throw new ClsFormatException();
 
@@ -278,10 +273,10 @@ public class ClsUtil {
       case 'L':
         int offset1 = offset + 1;
         while (true) {
-          if (offset1 >= data.length) {
+          if (offset1 >= data.limit()) {
             throw new ClsFormatException();
           }
-          if (data[offset1] == ';') {
+          if (data.get(offset1) == ';') {
             break;
           }
           offset1++;
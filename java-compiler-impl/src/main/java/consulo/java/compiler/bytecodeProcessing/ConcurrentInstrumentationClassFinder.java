@@ -0,0 +1,36 @@
+package consulo.java.compiler.bytecodeProcessing;
+
+import com.intellij.compiler.instrumentation.InstrumentationClassFinder;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class finder which can be shared by processors running in several threads. Loaded classes are cached in a concurrent map,
+ * so the class hierarchy lookups of {@code COMPUTE_FRAMES} don't block each other. Only the loading of a class missing
+ * in the cache is serialized, since the classpath of the base finder is not thread-safe.
+ */
+public class ConcurrentInstrumentationClassFinder extends InstrumentationClassFinder {
+  private final Map<String, PseudoClass> myLoadedClasses = new ConcurrentHashMap<>();
+
+  public ConcurrentInstrumentationClassFinder(URL[] platformUrls, URL[] classpathUrls) {
+    super(platformUrls, classpathUrls);
+  }
+
+  @Override
+  public PseudoClass loadClass(String name) throws IOException, ClassNotFoundException {
+    String internalName = name.replace('.', '/');
+    PseudoClass loaded = myLoadedClasses.get(internalName);
+    if (loaded != null) {
+      return loaded;
+    }
+
+    synchronized (this) {
+      loaded = super.loadClass(name);
+    }
+    myLoadedClasses.put(internalName, loaded);
+    return loaded;
+  }
+}
@@ -45,4 +45,11 @@ public interface JavaBytecodeProcessor {
                           File file,
                           ThrowableComputable<byte[], IOException> bytesComputable,
                           InstrumentationClassFinder classFinder) throws IOException, CacheCorruptedException;
+
+  /**
+   * @return true if the processor can process several classes at the same time. Calls of other processors are serialized
+   */
+  default boolean isConcurrent() {
+    return false;
+  }
 }
@@ -23,10 +23,12 @@ import com.intellij.java.compiler.impl.javaCompiler.FileObject;
 import com.intellij.java.compiler.impl.javaCompiler.JavaCompiler;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.application.Application;
+import consulo.application.util.concurrent.JobLauncher;
 import consulo.compiler.*;
 import consulo.compiler.scope.CompileScope;
 import consulo.content.ContentFolderTypeProvider;
 import consulo.java.compiler.JavaCompilerUtil;
+import consulo.java.compiler.impl.javaCompiler.CompileProfiler;
 import consulo.java.language.module.extension.JavaModuleExtension;
 import consulo.language.content.ProductionContentFolderTypeProvider;
 import consulo.language.content.TestContentFolderTypeProvider;
@@ -44,6 +46,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author VISTALL
@@ -140,45 +143,85 @@ public class JavaBytecodeProcessorCompiler implements ClassInstrumentingCompiler
       return ProcessingItem.EMPTY_ARRAY;
     }
 
+    Map<Module, List<MyProcessingItem>> moduleItems = new LinkedHashMap<>();
+    for (ProcessingItem processingItem : processingItems) {
+      MyProcessingItem temp = (MyProcessingItem)processingItem;
+      moduleItems.computeIfAbsent(temp.myModule, module -> new ArrayList<>()).add(temp);
+    }
+
+    List<JavaBytecodeProcessor> processors = Application.get().getExtensionList(JavaBytecodeProcessor.class);
+    AtomicBoolean cacheCorrupted = new AtomicBoolean();
+    Object lock = new Object();
+    CompileProfiler profiler = CompileProfiler.getInstance(compileContext);
+
     Module[] affectedModules = compileContext.getCompileScope().getAffectedModules();
     for (Module affectedModule : affectedModules) {
-      InstrumentationClassFinder classFinder = createClassFinder(compileContext, affectedModule);
-
-      for (ProcessingItem processingItem : processingItems) {
-        MyProcessingItem temp = (MyProcessingItem)processingItem;
+      List<MyProcessingItem> items = moduleItems.get(affectedModule);
+      if (items == null) {
+        continue;
+      }
 
-        if (temp.myModule != affectedModule) {
-          continue;
-        }
+      // classes are instrumented concurrently, COMPUTE_FRAMES shares the class hierarchy loaded by the finder
+      InstrumentationClassFinder classFinder = createClassFinder(compileContext, affectedModule);
 
+      CompileProfiler.Span span = profiler.start(CompileProfiler.CATEGORY_BYTECODE_PROCESSING, affectedModule.getName()).arg("classes", items.size());
+      JobLauncher.getInstance().invokeConcurrentlyUnderProgress(items, compileContext.getProgressIndicator(), temp -> {
         try {
           FileObject fileObject = temp.myFileObject;
-          for (JavaBytecodeProcessor processor : Application.get().getExtensionList(JavaBytecodeProcessor.class)) {
-            byte[] bytes = processor.processClassFile(compileContext,
-                                                      affectedModule,
-                                                      dependencyCache,
-                                                      cache,
-                                                      fileObject.getClassId(),
-                                                      temp.myFile,
-                                                      fileObject::getOrLoadContent,
-                                                      classFinder);
+          for (JavaBytecodeProcessor processor : processors) {
+            byte[] bytes;
+            if (processor.isConcurrent()) {
+              bytes = processClassFile(processor, compileContext, affectedModule, dependencyCache, cache, temp, classFinder);
+            }
+            else {
+              synchronized (lock) {
+                bytes = processClassFile(processor, compileContext, affectedModule, dependencyCache, cache, temp, classFinder);
+              }
+            }
+
             if (bytes != null) {
               temp.save(bytes);
             }
           }
         }
         catch (CacheCorruptedException e) {
-          compileContext.addMessage(CompilerMessageCategory.ERROR, "Cache corrupted. Please rebuild project", null, -1, -1);
-          return ProcessingItem.EMPTY_ARRAY;
+          cacheCorrupted.set(true);
+          return false;
         }
         catch (IOException e) {
           LOGGER.error(e);
         }
+        return true;
+      });
+      span.close();
+
+      if (cacheCorrupted.get()) {
+        compileContext.addMessage(CompilerMessageCategory.ERROR, "Cache corrupted. Please rebuild project", null, -1, -1);
+        return ProcessingItem.EMPTY_ARRAY;
       }
     }
     return processingItems;
   }
 
+  @Nullable
+  private static byte[] processClassFile(JavaBytecodeProcessor processor,
+                                         CompileContext compileContext,
+                                         Module affectedModule,
+                                         JavaDependencyCache dependencyCache,
+                                         Cache cache,
+                                         MyProcessingItem item,
+                                         InstrumentationClassFinder classFinder) throws IOException, CacheCorruptedException {
+    FileObject fileObject = item.myFileObject;
+    return processor.processClassFile(compileContext,
+                                      affectedModule,
+                                      dependencyCache,
+                                      cache,
+                                      fileObject.getClassId(),
+                                      item.myFile,
+                                      fileObject::getOrLoadContent,
+                                      classFinder);
+  }
+
   public static InstrumentationClassFinder createClassFinder(CompileContext context, final Module module) {
     ModuleChunk moduleChunk =
       new ModuleChunk((CompileContextEx)context, new Chunk<>(module), Collections.<Module, List<VirtualFile>>emptyMap());
@@ -186,7 +229,7 @@ public class JavaBytecodeProcessorCompiler implements ClassInstrumentingCompiler
     Set<VirtualFile> compilationBootClasspath = JavaCompilerUtil.getCompilationBootClasspath(context, moduleChunk);
     Set<VirtualFile> compilationClasspath = JavaCompilerUtil.getCompilationClasspath(context, moduleChunk);
 
-    return new InstrumentationClassFinder(toUrls(compilationBootClasspath), toUrls(compilationClasspath));
+    return new ConcurrentInstrumentationClassFinder(toUrls(compilationBootClasspath), toUrls(compilationClasspath));
   }
 
   private static URL[] toUrls(Set<VirtualFile> files) {
@@ -86,4 +86,10 @@ public class NotNullJavaBytecodeProcessorCompiler implements JavaBytecodeProcess
 
 		return null;
 	}
+
+	@Override
+	public boolean isConcurrent()
+	{
+		return true;
+	}
 }
@@ -1,5 +1,6 @@
 package consulo.java.compiler.impl.javaCompiler;
 
+import com.intellij.java.compiler.impl.javaCompiler.BackendCompilerWrapper;
 import com.intellij.java.compiler.impl.javaCompiler.javac.JpsJavaCompilerOptions;
 import consulo.annotation.access.RequiredReadAction;
 import consulo.application.Application;
@@ -10,6 +11,7 @@ import consulo.process.ExecutionException;
 import consulo.process.ProcessHandler;
 import consulo.process.cmd.GeneralCommandLine;
 import consulo.process.local.ProcessHandlerFactory;
+import org.jspecify.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -30,6 +32,9 @@ public abstract class BackendCompilerProcessBuilder
 	protected final JpsJavaCompilerOptions myJavaCompilerOptions;
 	protected final boolean myAnnotationProcessorsEnabled;
 
+	@Nullable
+	private BackendCompilerWrapper.ClassParsingHandler myClassParsingHandler;
+
 	protected BackendCompilerProcessBuilder(ModuleChunk moduleChunk,
                                           String outputPath,
                                           CompileContext compileContext,
@@ -48,6 +53,21 @@ public abstract class BackendCompilerProcessBuilder
 		return myCompileContext;
 	}
 
+	/**
+	 * @return handler of the classes compiled by this process. It's bound to the process, not to the compile context,
+	 * since several chunks can be compiled at the same time
+	 */
+	@Nullable
+	public BackendCompilerWrapper.ClassParsingHandler getClassParsingHandler()
+	{
+		return myClassParsingHandler;
+	}
+
+	public void setClassParsingHandler(BackendCompilerWrapper.ClassParsingHandler classParsingHandler)
+	{
+		myClassParsingHandler = classParsingHandler;
+	}
+
 	@RequiredReadAction
 	public abstract GeneralCommandLine buildCommandLine() throws IOException;
 
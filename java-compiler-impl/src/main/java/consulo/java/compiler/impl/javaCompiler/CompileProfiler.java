@@ -0,0 +1,260 @@
+package consulo.java.compiler.impl.javaCompiler;
+
+import consulo.application.util.registry.Registry;
+import consulo.compiler.CompileContext;
+import consulo.util.dataholder.Key;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records timings of the java compilation phases (module chunks, javac runs, class parsing, dependency cache update,
+ * bytecode processing, moving of the output files) during a single build.
+ * <p>
+ * Recording is enabled by the {@value #REGISTRY_KEY} registry key. The timeline is exported in the Chrome trace format
+ * after the build, see {@link CompileProfilerExporter}, and can be opened in {@code chrome://tracing} or Perfetto.
+ */
+public final class CompileProfiler
+{
+	public static final String REGISTRY_KEY = "java.compiler.profiler";
+
+	public static final String CATEGORY_CHUNK = "chunk";
+	public static final String CATEGORY_JAVAC = "javac";
+	public static final String CATEGORY_CLASS_PARSING = "class parsing";
+	public static final String CATEGORY_DEPENDENCIES = "dependencies";
+	public static final String CATEGORY_BYTECODE_PROCESSING = "bytecode processing";
+	public static final String CATEGORY_OUTPUT = "output";
+
+	public static final CompileProfiler DISABLED = new CompileProfiler(false);
+
+	private static final Key<CompileProfiler> KEY = Key.create("java.compile.profiler");
+
+	private static final Span DISABLED_SPAN = new Span(DISABLED, "", "");
+
+	private final boolean myEnabled;
+	private final long myStartNanos = System.nanoTime();
+	private final Queue<Span> mySpans = new ConcurrentLinkedQueue<>();
+
+	private CompileProfiler(boolean enabled)
+	{
+		myEnabled = enabled;
+	}
+
+	/**
+	 * @return profiler of the current build, or {@link #DISABLED} if profiling is turned off
+	 */
+	public static CompileProfiler getInstance(CompileContext context)
+	{
+		synchronized(KEY)
+		{
+			CompileProfiler profiler = context.getUserData(KEY);
+			if(profiler == null)
+			{
+				profiler = Registry.is(REGISTRY_KEY, false) ? new CompileProfiler(true) : DISABLED;
+				context.putUserData(KEY, profiler);
+			}
+			return profiler;
+		}
+	}
+
+	/**
+	 * @return profiler of the build if any phase was recorded
+	 */
+	@Nullable
+	public static CompileProfiler findInstance(CompileContext context)
+	{
+		CompileProfiler profiler = context.getUserData(KEY);
+		return profiler != null && profiler.myEnabled && !profiler.mySpans.isEmpty() ? profiler : null;
+	}
+
+	public boolean isEnabled()
+	{
+		return myEnabled;
+	}
+
+	/**
+	 * Starts a span on the current thread, the span is recorded when closed
+	 */
+	public Span start(String category, String name)
+	{
+		return myEnabled ? new Span(this, category, name) : DISABLED_SPAN;
+	}
+
+	/**
+	 * @return total time and count of the recorded spans, by category and name
+	 */
+	public String getSummary()
+	{
+		Map<String, long[]> totals = new TreeMap<>();
+		for(Span span : mySpans)
+		{
+			long[] total = totals.computeIfAbsent(span.myCategory + ": " + span.myName, k -> new long[2]);
+			total[0] += span.myDurationNanos;
+			total[1]++;
+		}
+
+		StringBuilder builder = new StringBuilder();
+		for(Map.Entry<String, long[]> entry : totals.entrySet())
+		{
+			long[] total = entry.getValue();
+			builder.append(entry.getKey()).append(' ').append(total[0] / 1000000).append("ms/").append(total[1]).append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes the recorded spans as Chrome trace events
+	 */
+	public void exportTrace(File file) throws IOException
+	{
+		List<Span> spans = new ArrayList<>(mySpans);
+		spans.sort(Comparator.comparingLong(span -> span.myStartNanos));
+
+		file.getParentFile().mkdirs();
+		try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))
+		{
+			writer.write("{\"traceEvents\":[");
+			boolean first = true;
+
+			Map<Long, String> threads = new LinkedHashMap<>();
+			for(Span span : spans)
+			{
+				threads.putIfAbsent(span.myThreadId, span.myThreadName);
+			}
+			for(Map.Entry<Long, String> thread : threads.entrySet())
+			{
+				first = writeSeparator(writer, first);
+				writer.write("{\"ph\":\"M\",\"name\":\"thread_name\",\"pid\":1,\"tid\":" + thread.getKey() + ",\"args\":{\"name\":");
+				writeString(writer, thread.getValue());
+				writer.write("}}");
+			}
+
+			for(Span span : spans)
+			{
+				first = writeSeparator(writer, first);
+				writer.write("{\"ph\":\"X\",\"pid\":1,\"tid\":" + span.myThreadId + ",\"name\":");
+				writeString(writer, span.myName);
+				writer.write(",\"cat\":");
+				writeString(writer, span.myCategory);
+				writer.write(",\"ts\":" + (span.myStartNanos - myStartNanos) / 1000 + ",\"dur\":" + span.myDurationNanos / 1000);
+				if(!span.myArgs.isEmpty())
+				{
+					writer.write(",\"args\":{");
+					boolean firstArg = true;
+					for(Map.Entry<String, Object> arg : span.myArgs.entrySet())
+					{
+						firstArg = writeSeparator(writer, firstArg);
+						writeString(writer, arg.getKey());
+						writer.write(':');
+						Object value = arg.getValue();
+						if(value instanceof Number)
+						{
+							writer.write(value.toString());
+						}
+						else
+						{
+							writeString(writer, String.valueOf(value));
+						}
+					}
+					writer.write('}');
+				}
+				writer.write('}');
+			}
+			writer.write("]}");
+		}
+	}
+
+	private static boolean writeSeparator(Writer writer, boolean first) throws IOException
+	{
+		if(!first)
+		{
+			writer.write(',');
+		}
+		return false;
+	}
+
+	private static void writeString(Writer writer, String value) throws IOException
+	{
+		writer.write('"');
+		for(int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			switch(c)
+			{
+				case '"':
+					writer.write("\\\"");
+					break;
+				case '\\':
+					writer.write("\\\\");
+					break;
+				case '\n':
+					writer.write("\\n");
+					break;
+				case '\r':
+					writer.write("\\r");
+					break;
+				case '\t':
+					writer.write("\\t");
+					break;
+				default:
+					if(c < 0x20)
+					{
+						writer.write(String.format("\\u%04x", (int) c));
+					}
+					else
+					{
+						writer.write(c);
+					}
+			}
+		}
+		writer.write('"');
+	}
+
+	public static final class Span implements AutoCloseable
+	{
+		private final CompileProfiler myProfiler;
+		private final String myCategory;
+		private final String myName;
+		private final long myThreadId;
+		private final String myThreadName;
+		private final long myStartNanos;
+		private final Map<String, Object> myArgs = new LinkedHashMap<>();
+		private long myDurationNanos = -1;
+
+		private Span(CompileProfiler profiler, String category, String name)
+		{
+			myProfiler = profiler;
+			myCategory = category;
+			myName = name;
+			Thread thread = Thread.currentThread();
+			myThreadId = thread.getId();
+			myThreadName = thread.getName();
+			myStartNanos = System.nanoTime();
+		}
+
+		/**
+		 * Adds an argument shown for the span in the timeline, e.g. count of the processed files
+		 */
+		public Span arg(String name, Object value)
+		{
+			if(myProfiler.myEnabled)
+			{
+				myArgs.put(name, value);
+			}
+			return this;
+		}
+
+		@Override
+		public void close()
+		{
+			if(myProfiler.myEnabled && myDurationNanos < 0)
+			{
+				myDurationNanos = System.nanoTime() - myStartNanos;
+				myProfiler.mySpans.add(this);
+			}
+		}
+	}
+}
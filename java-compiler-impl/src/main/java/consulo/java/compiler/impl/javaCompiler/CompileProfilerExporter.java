@@ -0,0 +1,44 @@
+package consulo.java.compiler.impl.javaCompiler;
+
+import consulo.annotation.component.ComponentScope;
+import consulo.annotation.component.TopicImpl;
+import consulo.compiler.CompileContext;
+import consulo.compiler.event.CompilationStatusListener;
+import consulo.container.boot.ContainerPathManager;
+import consulo.logging.Logger;
+import consulo.util.io.FileUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Writes the timeline recorded by {@link CompileProfiler} after each build into
+ * {@code <system>/compiler-traces/<project>.trace.json}, the previous trace of the project is overwritten.
+ */
+@TopicImpl(ComponentScope.PROJECT)
+public class CompileProfilerExporter implements CompilationStatusListener
+{
+	private static final Logger LOG = Logger.getInstance(CompileProfilerExporter.class);
+
+	@Override
+	public void compilationFinished(boolean aborted, int errors, int warnings, CompileContext compileContext)
+	{
+		CompileProfiler profiler = CompileProfiler.findInstance(compileContext);
+		if(profiler == null)
+		{
+			return;
+		}
+
+		String fileName = FileUtil.sanitizeFileName(compileContext.getProject().getName()) + ".trace.json";
+		File file = new File(new File(ContainerPathManager.get().getSystemPath(), "compiler-traces"), fileName);
+		try
+		{
+			profiler.exportTrace(file);
+			LOG.info("Compilation trace written to " + file + "\n" + profiler.getSummary());
+		}
+		catch(IOException e)
+		{
+			LOG.warn("Failed to write compilation trace to " + file, e);
+		}
+	}
+}
@@ -7,6 +7,9 @@ import consulo.compiler.CacheCorruptedException;
 import consulo.compiler.CompileContext;
 import consulo.compiler.CompilerMessageCategory;
 import consulo.compiler.localize.CompilerLocalize;
+import consulo.java.rt.common.compiler.CompiledClass;
+import consulo.java.rt.common.compiler.CompilerMessage;
+import consulo.java.rt.common.compiler.CompilerMessageKind;
 import consulo.java.rt.common.compiler.JavaCompilerInterface;
 import consulo.process.ProcessHandler;
 import consulo.process.event.ProcessAdapter;
@@ -15,29 +18,30 @@ import consulo.util.dataholder.Key;
 import consulo.virtualFileSystem.VirtualFile;
 import consulo.virtualFileSystem.util.VirtualFileUtil;
 import org.apache.thrift.TException;
+import org.apache.thrift.server.TNonblockingServer;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TSimpleServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TTransportException;
+import org.jspecify.annotations.Nullable;
 
 import java.io.File;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.concurrent.Future;
+import java.util.List;
 
 /**
  * @author VISTALL
  * @since 13/03/2021
  */
 public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInterface.Iface {
-  private final TSimpleServer myServer;
+  private final TServer myServer;
 
   private final CompileContext myCompileContext;
 
+  // consumed and awaited by BackendCompilerWrapper, the monitor only passes the compiled classes to it
   private final BackendCompilerWrapper.ClassParsingHandler myClassParsingHandler;
-  private final Future<?> myClassParsingFuture;
 
   private Path myProjectFilePath;
   private ProcessHandler myProcess;
@@ -47,13 +51,19 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
 
     myProjectFilePath = Paths.get(myCompileContext.getProject().getBasePath());
 
-    myClassParsingHandler = myCompileContext.getUserData(BackendCompilerWrapper.CLASS_PARSING_HANDLER_KEY);
+    myClassParsingHandler = processBuilder.getClassParsingHandler();
 
     assert myClassParsingHandler != null;
 
-    TServerSocket localhost = null;
+    if (processBuilder.isUseDaemon()) {
+      // diagnostics are received by the daemon server, see handleProcessStart()
+      myServer = null;
+      return;
+    }
+
+    TNonblockingServerSocket localhost = null;
     try {
-      localhost = new TServerSocket(new InetSocketAddress("localhost", processBuilder.getPort()));
+      localhost = new TNonblockingServerSocket(new InetSocketAddress("localhost", processBuilder.getPort()));
     }
     catch (TTransportException e) {
       throw new IllegalArgumentException(e);
@@ -61,9 +71,7 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
 
     JavaCompilerInterface.Processor<JavaCompilerInterface.Iface> processor = new JavaCompilerInterface.Processor<>(this);
 
-    myServer = new TSimpleServer(new TServer.Args(localhost).processor(processor));
-
-    myClassParsingFuture = AppExecutorUtil.getAppExecutorService().submit(myClassParsingHandler);
+    myServer = new TNonblockingServer(new TNonblockingServer.Args(localhost).processor(processor));
 
     AppExecutorUtil.getAppExecutorService().execute(myServer::serve);
   }
@@ -71,6 +79,9 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
   @Override
   public void handleProcessStart(ProcessHandler process) {
     myProcess = process;
+    if (process instanceof JavacDaemonProcessHandler daemonProcess) {
+      daemonProcess.setDiagnosticsReceiver(this);
+    }
     process.addProcessListener(new ProcessAdapter() {
       @Override
       public void onTextAvailable(ProcessEvent event, Key outputType) {
@@ -100,12 +111,6 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
 
   @Override
   public void dispose() {
-    myClassParsingHandler.stopParsing();
-
-    if (myClassParsingFuture != null) {
-      myClassParsingFuture.cancel(false);
-    }
-
     if (myServer != null) {
       myServer.stop();
     }
@@ -128,8 +133,34 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
 
   @Override
   public void fileWrote(String filePath) throws TException {
+    addPath(new FileObject(new File(filePath)));
+  }
+
+  @Override
+  public void logMessages(List<CompilerMessage> messages) throws TException {
+    for (CompilerMessage message : messages) {
+      log(toCategory(message.getKind()), message.getMessage(), message.getFileUri(), message.getLineNumber(), message.getColumnNumber());
+    }
+  }
+
+  @Override
+  public void filesWrote(List<String> filePaths) throws TException {
+    for (String filePath : filePaths) {
+      fileWrote(filePath);
+    }
+  }
+
+  @Override
+  public void classesWrote(List<CompiledClass> classes) throws TException {
+    for (CompiledClass compiledClass : classes) {
+      // written by the class parsing handler, after the dependency cache is updated
+      addPath(new FileObject(new File(compiledClass.getFilePath()), compiledClass.getContent(), false));
+    }
+  }
+
+  private void addPath(FileObject fileObject) {
     try {
-      myClassParsingHandler.addPath(new FileObject(new File(filePath)));
+      myClassParsingHandler.addPath(fileObject);
     }
     catch (CacheCorruptedException e) {
       if (myProcess != null) {
@@ -138,6 +169,17 @@ public class JavaToolMonitor implements BackendCompilerMonitor, JavaCompilerInte
     }
   }
 
+  private static CompilerMessageCategory toCategory(@Nullable CompilerMessageKind kind) {
+    if (kind == null) {
+      return CompilerMessageCategory.INFORMATION;
+    }
+    return switch (kind) {
+      case ERROR -> CompilerMessageCategory.ERROR;
+      case WARNING -> CompilerMessageCategory.WARNING;
+      case INFO -> CompilerMessageCategory.INFORMATION;
+    };
+  }
+
   //	public void parsingFileStarted(String fileUri) throws TException
   //	{
   //		String filePath = null;
@@ -0,0 +1,327 @@
+package consulo.java.compiler.impl.javaCompiler;
+
+import consulo.application.util.concurrent.AppExecutorUtil;
+import consulo.application.util.registry.Registry;
+import consulo.java.rt.common.compiler.CompiledClass;
+import consulo.java.rt.common.compiler.CompilerMessage;
+import consulo.java.rt.common.compiler.JavaCompilerInterface;
+import consulo.java.rt.compiler.JavacDaemonConstants;
+import consulo.logging.Logger;
+import consulo.process.ExecutionException;
+import consulo.process.cmd.GeneralCommandLine;
+import consulo.util.io.NetUtil;
+import org.apache.thrift.TException;
+import org.apache.thrift.server.TNonblockingServer;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TTransportException;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Long-living javac process which stays warm between builds (JIT-compiled javac, opened classpath archives).
+ * <p>
+ * The daemon connects once to its own {@link JavaCompilerInterface} server, which forwards the calls to the monitor
+ * of the current compilation. Compile requests are passed through the daemon stdin, see {@link JavacDaemonConstants}.
+ * Idle daemons are pooled by their command line, i.e. by JDK and VM options.
+ */
+public class JavacDaemon implements JavaCompilerInterface.Iface
+{
+	public static final String REGISTRY_KEY = "java.compiler.javac.daemon";
+
+	private static final Logger LOG = Logger.getInstance(JavacDaemon.class);
+
+	private static final int MAX_IDLE_DAEMONS = 2;
+
+	/**
+	 * Idle timeout passed to the daemon process, after which it exits by itself
+	 */
+	public static final long IDLE_TIMEOUT = JavacDaemonConstants.DEFAULT_IDLE_TIMEOUT;
+	/**
+	 * Pooled daemons idle for longer are not handed out: the daemon could exit right when the compile request arrives
+	 */
+	private static final long POOL_IDLE_TIMEOUT = IDLE_TIMEOUT / 2;
+
+	// command line -> idle daemons, guarded by itself
+	private static final Map<String, Deque<JavacDaemon>> ourIdleDaemons = new LinkedHashMap<>();
+
+	private final String myKey;
+	private final TServer myServer;
+	private final Process myProcess;
+	private final Writer myInput;
+	private final BufferedReader myOutput;
+
+	@Nullable
+	private volatile JavaCompilerInterface.Iface myDelegate;
+	// guarded by ourIdleDaemons
+	private long myReleaseTime;
+
+	private JavacDaemon(String key, GeneralCommandLine commandLine) throws ExecutionException
+	{
+		myKey = key;
+
+		int port = NetUtil.tryToFindAvailableSocketPort();
+		TNonblockingServerSocket serverSocket;
+		try
+		{
+			serverSocket = new TNonblockingServerSocket(new InetSocketAddress("localhost", port));
+		}
+		catch(TTransportException e)
+		{
+			throw new ExecutionException(e.getMessage(), e);
+		}
+
+		myServer = new TNonblockingServer(new TNonblockingServer.Args(serverSocket).processor(new JavaCompilerInterface.Processor<>(this)));
+		AppExecutorUtil.getAppExecutorService().execute(myServer::serve);
+
+		try
+		{
+			myProcess = commandLine.withRedirectErrorStream(true).createProcess();
+			myInput = new BufferedWriter(new OutputStreamWriter(myProcess.getOutputStream(), StandardCharsets.UTF_8));
+			myOutput = new BufferedReader(new InputStreamReader(myProcess.getInputStream(), StandardCharsets.UTF_8));
+			sendLine(String.valueOf(port));
+		}
+		catch(ExecutionException | IOException | RuntimeException e)
+		{
+			myServer.stop();
+			throw e instanceof ExecutionException ? (ExecutionException) e : new ExecutionException(e.getMessage(), e);
+		}
+	}
+
+	public static boolean isEnabled()
+	{
+		return Registry.is(REGISTRY_KEY, false);
+	}
+
+	/**
+	 * @param commandLine command line of the daemon process, without the compiler arguments
+	 * @return idle daemon started with the same command line, or a new one
+	 */
+	public static JavacDaemon acquire(GeneralCommandLine commandLine) throws ExecutionException
+	{
+		String key = commandLine.getCommandLineString();
+		List<JavacDaemon> expired = new ArrayList<>();
+		JavacDaemon result = null;
+		synchronized(ourIdleDaemons)
+		{
+			Deque<JavacDaemon> daemons = ourIdleDaemons.get(key);
+			long now = System.currentTimeMillis();
+			while(daemons != null && !daemons.isEmpty())
+			{
+				JavacDaemon daemon = daemons.pollFirst();
+				if(daemon.isAlive() && now - daemon.myReleaseTime < POOL_IDLE_TIMEOUT)
+				{
+					result = daemon;
+					break;
+				}
+				expired.add(daemon);
+			}
+		}
+
+		for(JavacDaemon daemon : expired)
+		{
+			if(daemon.isAlive())
+			{
+				daemon.stop();
+			}
+			else
+			{
+				daemon.terminate();
+			}
+		}
+		return result != null ? result : new JavacDaemon(key, commandLine);
+	}
+
+	/**
+	 * Returns the daemon into the pool after the compilation. Daemons which are broken or exceed the pool size are stopped.
+	 */
+	public void release()
+	{
+		myDelegate = null;
+		if(!isAlive())
+		{
+			terminate();
+			return;
+		}
+
+		JavacDaemon toStop = null;
+		synchronized(ourIdleDaemons)
+		{
+			myReleaseTime = System.currentTimeMillis();
+
+			// recently used command lines are kept at the end
+			Deque<JavacDaemon> ownDaemons = ourIdleDaemons.remove(myKey);
+			if(ownDaemons == null)
+			{
+				ownDaemons = new ArrayDeque<>();
+			}
+			ownDaemons.addFirst(this);
+			ourIdleDaemons.put(myKey, ownDaemons);
+
+			int idle = 0;
+			for(Deque<JavacDaemon> daemons : ourIdleDaemons.values())
+			{
+				idle += daemons.size();
+			}
+
+			if(idle > MAX_IDLE_DAEMONS)
+			{
+				// stop the least recently used daemon
+				Iterator<Deque<JavacDaemon>> iterator = ourIdleDaemons.values().iterator();
+				Deque<JavacDaemon> daemons = iterator.next();
+				toStop = daemons.pollLast();
+				if(daemons.isEmpty())
+				{
+					iterator.remove();
+				}
+			}
+		}
+
+		if(toStop != null)
+		{
+			toStop.stop();
+		}
+	}
+
+	/**
+	 * Runs the compilation and waits for its end.
+	 *
+	 * @param argumentsFile file with compiler arguments, one per line
+	 * @param delegate      receiver of the diagnostics
+	 * @param output        receiver of the process output
+	 * @return compiler exit code, or -1 if the daemon died
+	 */
+	public int compile(File argumentsFile, @Nullable JavaCompilerInterface.Iface delegate, Consumer<String> output)
+	{
+		myDelegate = delegate;
+		try
+		{
+			sendLine(argumentsFile.getAbsolutePath());
+
+			for(String line = myOutput.readLine(); line != null; line = myOutput.readLine())
+			{
+				if(line.startsWith(JavacDaemonConstants.MSG_COMPILATION_FINISHED))
+				{
+					return Integer.parseInt(line.substring(JavacDaemonConstants.MSG_COMPILATION_FINISHED.length()).trim());
+				}
+				output.accept(line);
+			}
+		}
+		catch(IOException | NumberFormatException e)
+		{
+			LOG.info("Javac daemon failed", e);
+		}
+
+		terminate();
+		return -1;
+	}
+
+	public boolean isAlive()
+	{
+		return myProcess.isAlive();
+	}
+
+	/**
+	 * Asks the daemon to exit gracefully
+	 */
+	public void stop()
+	{
+		try
+		{
+			sendLine(JavacDaemonConstants.EXIT_COMMAND);
+		}
+		catch(IOException ignored)
+		{
+			myProcess.destroy();
+		}
+		myServer.stop();
+	}
+
+	public void terminate()
+	{
+		myProcess.destroy();
+		myServer.stop();
+	}
+
+	private void sendLine(String line) throws IOException
+	{
+		myInput.write(line);
+		myInput.write('\n');
+		myInput.flush();
+	}
+
+	@Override
+	public void logInfo(String message, String fileUri, long lineNumber, long columnNumber) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.logInfo(message, fileUri, lineNumber, columnNumber);
+		}
+	}
+
+	@Override
+	public void logError(String message, String fileUri, long lineNumber, long columnNumber) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.logError(message, fileUri, lineNumber, columnNumber);
+		}
+	}
+
+	@Override
+	public void logWarning(String message, String fileUri, long lineNumber, long columnNumber) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.logWarning(message, fileUri, lineNumber, columnNumber);
+		}
+	}
+
+	@Override
+	public void fileWrote(String filePath) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.fileWrote(filePath);
+		}
+	}
+
+	@Override
+	public void logMessages(List<CompilerMessage> messages) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.logMessages(messages);
+		}
+	}
+
+	@Override
+	public void filesWrote(List<String> filePaths) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.filesWrote(filePaths);
+		}
+	}
+
+	@Override
+	public void classesWrote(List<CompiledClass> classes) throws TException
+	{
+		JavaCompilerInterface.Iface delegate = myDelegate;
+		if(delegate != null)
+		{
+			delegate.classesWrote(classes);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package consulo.java.compiler.impl.javaCompiler;
+
+import consulo.application.util.concurrent.AppExecutorUtil;
+import consulo.java.rt.common.compiler.JavaCompilerInterface;
+import consulo.process.BaseProcessHandler;
+import consulo.process.ProcessOutputTypes;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.OutputStream;
+
+/**
+ * Single compilation running in {@link JavacDaemon}. Terminates when the daemon reports the end of the compilation.
+ */
+public class JavacDaemonProcessHandler extends BaseProcessHandler
+{
+	private final JavacDaemon myDaemon;
+	private final File myArgumentsFile;
+
+	@Nullable
+	private volatile JavaCompilerInterface.Iface myDiagnosticsReceiver;
+
+	public JavacDaemonProcessHandler(JavacDaemon daemon, File argumentsFile)
+	{
+		myDaemon = daemon;
+		myArgumentsFile = argumentsFile;
+	}
+
+	public void setDiagnosticsReceiver(JavaCompilerInterface.Iface diagnosticsReceiver)
+	{
+		myDiagnosticsReceiver = diagnosticsReceiver;
+	}
+
+	@Override
+	public void startNotify()
+	{
+		super.startNotify();
+
+		AppExecutorUtil.getAppExecutorService().execute(() -> {
+			int exitCode = -1;
+			try
+			{
+				exitCode = myDaemon.compile(myArgumentsFile, myDiagnosticsReceiver, text -> notifyTextAvailable(text + "\n", ProcessOutputTypes.STDOUT));
+			}
+			finally
+			{
+				myDaemon.release();
+				notifyProcessTerminated(exitCode);
+			}
+		});
+	}
+
+	@Override
+	protected void destroyProcessImpl()
+	{
+		// the daemon can't cancel a running compilation, so it is not reused
+		myDaemon.terminate();
+	}
+
+	@Override
+	protected void detachProcessImpl()
+	{
+		myDaemon.terminate();
+	}
+
+	@Override
+	public boolean detachIsDefault()
+	{
+		return false;
+	}
+
+	@Override
+	public OutputStream getProcessInput()
+	{
+		return null;
+	}
+}
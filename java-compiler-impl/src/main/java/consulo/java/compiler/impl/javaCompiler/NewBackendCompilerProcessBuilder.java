@@ -7,6 +7,7 @@ import com.intellij.java.language.impl.projectRoots.ex.JavaSdkUtil;
 import com.intellij.java.language.projectRoots.JavaSdkType;
 import com.intellij.java.language.projectRoots.JavaSdkVersion;
 import consulo.annotation.access.RequiredReadAction;
+import consulo.application.util.registry.Registry;
 import consulo.compiler.CompileContext;
 import consulo.compiler.ModuleChunk;
 import consulo.compiler.util.CompilerUtil;
@@ -18,6 +19,8 @@ import consulo.java.execution.OwnSimpleJavaParameters;
 import consulo.java.language.bundle.JavaSdkTypeUtil;
 import consulo.java.rt.JavaRtClassNames;
 import consulo.java.rt.common.compiler.JavaCompilerInterface;
+import consulo.java.rt.compiler.JavacDaemonConstants;
+import consulo.java.rt.compiler.JavacRunnerConstants;
 import consulo.logging.Logger;
 import consulo.process.ExecutionException;
 import consulo.process.ProcessHandler;
@@ -31,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TServiceClient;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -41,8 +45,13 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 {
 	private static final Logger LOG = Logger.getInstance(NewBackendCompilerProcessBuilder.class);
 
+	public static final String IN_MEMORY_OUTPUT_REGISTRY_KEY = "java.compiler.javac.in.memory.output";
+
 	private int myPort;
 
+	private final boolean myUseDaemon;
+	private File myArgumentsFile;
+
 	public NewBackendCompilerProcessBuilder(ModuleChunk moduleChunk,
                                           String outputPath,
                                           CompileContext compileContext,
@@ -51,7 +60,8 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 	{
 		super(moduleChunk, outputPath, compileContext, javaCompilerOptions, annotationProcessorsEnabled);
 
-		myPort = NetUtil.tryToFindAvailableSocketPort();
+		myUseDaemon = JavacDaemon.isEnabled();
+		myPort = myUseDaemon ? -1 : NetUtil.tryToFindAvailableSocketPort();
 	}
 
 	@RequiredReadAction
@@ -64,6 +74,10 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 	@Override
 	public ProcessHandler createProcess(GeneralCommandLine commandLine) throws ExecutionException
 	{
+		if(myUseDaemon)
+		{
+			return new JavacDaemonProcessHandler(JavacDaemon.acquire(commandLine), myArgumentsFile);
+		}
 		return ProcessHandlerBuilder.create(commandLine).silentReader().build();
 	}
 
@@ -72,6 +86,14 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 		return myPort;
 	}
 
+	/**
+	 * @return true if the compilation runs in a {@link JavacDaemon}, which has its own {@link JavaCompilerInterface} server
+	 */
+	public boolean isUseDaemon()
+	{
+		return myUseDaemon;
+	}
+
 	@RequiredReadAction
 	private GeneralCommandLine createNewStartupCommand(ModuleChunk chunk,
 													   String outputPath,
@@ -102,7 +124,15 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 
 		javaParameters.setJdk(jdk);
 
-		javaParameters.getVMParametersList().add("-Dconsulo.port=" + myPort);
+		if(myUseDaemon)
+		{
+			javaParameters.getVMParametersList().add("-D" + JavacDaemonConstants.DAEMON_PROPERTY + "=true");
+			javaParameters.getVMParametersList().add("-D" + JavacDaemonConstants.IDLE_TIMEOUT_PROPERTY + "=" + JavacDaemon.IDLE_TIMEOUT);
+		}
+		else
+		{
+			javaParameters.getVMParametersList().add("-Dconsulo.port=" + myPort);
+		}
 
 		javaParameters.getVMParametersList().add("-Xmx" + javacOptions.MAXIMUM_HEAP_SIZE + "m");
 
@@ -163,8 +193,32 @@ public class NewBackendCompilerProcessBuilder extends BackendCompilerProcessBuil
 			}
 		}
 
+		if(Registry.is(IN_MEMORY_OUTPUT_REGISTRY_KEY, false))
+		{
+			// class files are sent to the IDE, see JavaToolMonitor.classesWrote()
+			params.add(JavacRunnerConstants.IN_MEMORY_OUTPUT_OPTION);
+		}
+
 		params.add("@" + sourcesFile.getAbsolutePath());
 
+		if(myUseDaemon)
+		{
+			// the daemon is shared between compilations, so the arguments are passed with the compile request
+			myArgumentsFile = File.createTempFile("javacArgs", ".tmp");
+			myArgumentsFile.deleteOnExit();
+			myTempFiles.add(myArgumentsFile);
+
+			try (PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(myArgumentsFile), StandardCharsets.UTF_8))))
+			{
+				for(String param : params.getList())
+				{
+					writer.println(param);
+				}
+			}
+
+			params.clearAll();
+		}
+
 		try
 		{
 			return javaParameters.toCommandLine();
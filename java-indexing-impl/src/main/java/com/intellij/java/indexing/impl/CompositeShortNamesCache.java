@@ -103,7 +103,7 @@ public class CompositeShortNamesCache extends PsiShortNamesCache {
 
     @Override
     public boolean processAllClassNames(Predicate<String> processor) {
-        CommonProcessors.UniqueProcessor<String> uniqueProcessor = new CommonProcessors.UniqueProcessor<>(processor);
+        Predicate<String> uniqueProcessor = getUniqueProcessor(processor);
         for (PsiShortNameProvider cache : myCaches) {
             if (!cache.processAllClassNames(uniqueProcessor)) {
                 return false;
@@ -112,6 +112,11 @@ public class CompositeShortNamesCache extends PsiShortNamesCache {
         return true;
     }
 
+    private Predicate<String> getUniqueProcessor(Predicate<String> processor) {
+        // names of a single provider are already unique, no need to collect them into a set
+        return myCaches.size() > 1 ? new CommonProcessors.UniqueProcessor<>(processor) : processor;
+    }
+
     @Override
     public boolean processAllClassNames(Predicate<String> processor, GlobalSearchScope scope, IdFilter filter) {
         for (PsiShortNameProvider cache : myCaches) {
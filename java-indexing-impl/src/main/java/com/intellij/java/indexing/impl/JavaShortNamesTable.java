@@ -0,0 +1,135 @@
+package com.intellij.java.indexing.impl;
+
+import com.intellij.java.language.impl.psi.impl.java.stubs.index.JavaStubIndexKeys;
+import consulo.annotation.component.ComponentScope;
+import consulo.annotation.component.ServiceAPI;
+import consulo.annotation.component.ServiceImpl;
+import consulo.application.util.registry.Registry;
+import consulo.component.util.ModificationTracker;
+import consulo.language.psi.PsiModificationTracker;
+import consulo.language.psi.stub.StubIndex;
+import consulo.language.psi.stub.StubIndexKey;
+import consulo.project.DumbService;
+import consulo.project.Project;
+import consulo.project.content.ProjectRootModificationTracker;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Cached table of the short names of java classes, methods and fields, so goto class and completion which ask for all
+ * the names on every keystroke don't collect the stub index keys into new collections each time.
+ * <p>
+ * A table is an immutable snapshot which can be queried concurrently without locking, it is rebuilt on the first
+ * query after a java structure or project roots change. Changes inside code blocks don't add or remove names, so
+ * typing in a method body keeps the table.
+ */
+@Singleton
+@ServiceAPI(ComponentScope.PROJECT)
+@ServiceImpl
+public class JavaShortNamesTable {
+    public static final String REGISTRY_KEY = "java.short.names.table";
+
+    private final Project myProject;
+    private final ModificationTracker myTracker;
+    private final Map<StubIndexKey<String, ?>, Holder> myHolders;
+
+    @Inject
+    public JavaShortNamesTable(Project project) {
+        myProject = project;
+
+        ModificationTracker rootsTracker = ProjectRootModificationTracker.getInstance(project);
+        PsiModificationTracker psiTracker = PsiModificationTracker.getInstance(project);
+        myTracker = () -> psiTracker.getJavaStructureModificationCount() + rootsTracker.getModificationCount();
+        myHolders = Map.of(
+            JavaStubIndexKeys.CLASS_SHORT_NAMES, new Holder(JavaStubIndexKeys.CLASS_SHORT_NAMES),
+            JavaStubIndexKeys.METHODS, new Holder(JavaStubIndexKeys.METHODS),
+            JavaStubIndexKeys.FIELDS, new Holder(JavaStubIndexKeys.FIELDS)
+        );
+    }
+
+    public static JavaShortNamesTable getInstance(Project project) {
+        return project.getInstance(JavaShortNamesTable.class);
+    }
+
+    /**
+     * @return false if the names should be taken from the stub index directly, e.g. during indexing
+     */
+    public boolean isAvailable() {
+        return Registry.is(REGISTRY_KEY, true) && !DumbService.isDumb(myProject);
+    }
+
+    /**
+     * @param indexKey one of {@link JavaStubIndexKeys#CLASS_SHORT_NAMES}, {@link JavaStubIndexKeys#METHODS},
+     *                 {@link JavaStubIndexKeys#FIELDS}
+     * @return all the names of the index in a new array, which the caller may modify;
+     * use {@link #processNames} to avoid the copy
+     */
+    public String[] getAllNames(StubIndexKey<String, ?> indexKey) {
+        return getTable(indexKey).myNames.clone();
+    }
+
+    /**
+     * Processes all the names of the index without collecting them.
+     *
+     * @return false if the processor stopped the processing
+     */
+    public boolean processNames(StubIndexKey<String, ?> indexKey, Predicate<? super String> processor) {
+        for (String name : getTable(indexKey).myNames) {
+            if (!processor.test(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Table getTable(StubIndexKey<String, ?> indexKey) {
+        Holder holder = myHolders.get(indexKey);
+        if (holder == null) {
+            throw new IllegalArgumentException("Unsupported index: " + indexKey);
+        }
+        return holder.getTable();
+    }
+
+    private final class Holder {
+        private final StubIndexKey<String, ?> myIndexKey;
+        private final Object myLock = new Object();
+        @Nullable
+        private volatile Table myTable;
+
+        private Holder(StubIndexKey<String, ?> indexKey) {
+            myIndexKey = indexKey;
+        }
+
+        private Table getTable() {
+            long modificationCount = myTracker.getModificationCount();
+            Table table = myTable;
+            if (table != null && table.myModificationCount == modificationCount) {
+                return table;
+            }
+
+            synchronized (myLock) {
+                table = myTable;
+                if (table == null || table.myModificationCount != modificationCount) {
+                    table = new Table(StubIndex.getInstance().getAllKeys(myIndexKey, myProject), modificationCount);
+                    myTable = table;
+                }
+                return table;
+            }
+        }
+    }
+
+    private static final class Table {
+        private final long myModificationCount;
+        private final String[] myNames;
+
+        private Table(Collection<String> names, long modificationCount) {
+            myModificationCount = modificationCount;
+            myNames = names.toArray(new String[names.size()]);
+        }
+    }
+}
@@ -109,6 +109,10 @@ public class PsiShortNamesCacheImpl implements PsiShortNameProvider {
 
     @Override
     public String[] getAllClassNames() {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            return table.getAllNames(JavaStubIndexKeys.CLASS_SHORT_NAMES);
+        }
         return ArrayUtil.toStringArray(JavaShortClassNameIndex.getInstance().getAllKeys(myProject));
     }
 
@@ -119,6 +123,10 @@ public class PsiShortNamesCacheImpl implements PsiShortNameProvider {
 
     @Override
     public boolean processAllClassNames(Predicate<String> processor) {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            return table.processNames(JavaStubIndexKeys.CLASS_SHORT_NAMES, processor);
+        }
         return JavaShortClassNameIndex.getInstance().processAllKeys(myProject, processor);
     }
 
@@ -186,11 +194,20 @@ public class PsiShortNamesCacheImpl implements PsiShortNameProvider {
 
     @Override
     public String[] getAllMethodNames() {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            return table.getAllNames(JavaStubIndexKeys.METHODS);
+        }
         return ArrayUtil.toStringArray(JavaMethodNameIndex.getInstance().getAllKeys(myProject));
     }
 
     @Override
     public void getAllMethodNames(HashSet<String> set) {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            table.processNames(JavaStubIndexKeys.METHODS, new CommonProcessors.CollectProcessor<>(set));
+            return;
+        }
         JavaMethodNameIndex.getInstance().processAllKeys(myProject, new CommonProcessors.CollectProcessor<>(set));
     }
 
@@ -232,11 +249,20 @@ public class PsiShortNamesCacheImpl implements PsiShortNameProvider {
 
     @Override
     public String[] getAllFieldNames() {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            return table.getAllNames(JavaStubIndexKeys.FIELDS);
+        }
         return ArrayUtil.toStringArray(JavaFieldNameIndex.getInstance().getAllKeys(myProject));
     }
 
     @Override
     public void getAllFieldNames(HashSet<String> set) {
+        JavaShortNamesTable table = JavaShortNamesTable.getInstance(myProject);
+        if (table.isAvailable()) {
+            table.processNames(JavaStubIndexKeys.FIELDS, new CommonProcessors.CollectProcessor<>(set));
+            return;
+        }
         JavaFieldNameIndex.getInstance().processAllKeys(myProject, new CommonProcessors.CollectProcessor<>(set));
     }
 
@@ -0,0 +1,360 @@
+package com.intellij.java.indexing.impl.search;
+
+import com.intellij.java.indexing.search.searches.DirectClassInheritorsSearch;
+import com.intellij.java.language.psi.PsiAnonymousClass;
+import com.intellij.java.language.psi.PsiClass;
+import com.intellij.java.language.psi.PsiClassOwner;
+import com.intellij.java.language.psi.util.PsiUtil;
+import consulo.annotation.access.RequiredReadAction;
+import consulo.annotation.component.ComponentScope;
+import consulo.annotation.component.ServiceAPI;
+import consulo.annotation.component.ServiceImpl;
+import consulo.application.Application;
+import consulo.application.progress.ProgressIndicatorProvider;
+import consulo.application.progress.ProgressManager;
+import consulo.application.util.concurrent.JobLauncher;
+import consulo.application.util.registry.Registry;
+import consulo.component.util.ModificationTracker;
+import consulo.language.psi.*;
+import consulo.language.psi.event.PsiTreeChangeAdapter;
+import consulo.language.psi.event.PsiTreeChangeEvent;
+import consulo.language.psi.scope.GlobalSearchScope;
+import consulo.language.psi.util.PsiTreeUtil;
+import consulo.project.Project;
+import consulo.project.content.ProjectRootModificationTracker;
+import consulo.util.collection.primitive.ints.IntList;
+import consulo.util.collection.primitive.ints.IntLists;
+import consulo.util.collection.primitive.ints.IntMaps;
+import consulo.util.collection.primitive.ints.IntObjectMap;
+import consulo.util.collection.primitive.objects.ObjectIntMap;
+import consulo.util.collection.primitive.objects.ObjectMaps;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Project-wide graph of the resolved direct inheritors, so deep inheritor searches don't repeat the index lookups and
+ * the inheritance checks for every class of a hierarchy which was already walked.
+ * <p>
+ * Classes are enumerated by int ids, the direct inheritors of a class are stored as an id array and are computed on the
+ * first request. Edges between library classes are kept until the project roots change. The other edges are dropped on
+ * java structure changes and on changes of local and anonymous classes, which are not structure changes but may add or
+ * remove inheritors; edits inside method bodies keep them. Once the library edges of a class are known, only the project
+ * scope is searched for its source inheritors.
+ */
+@Singleton
+@ServiceAPI(ComponentScope.PROJECT)
+@ServiceImpl
+public class JavaClassHierarchyGraph {
+    public static final String REGISTRY_KEY = "java.inheritors.search.hierarchy.graph";
+
+    private static final int ANONYMOUS = 1;
+    private static final int FINAL = 2;
+
+    // classes whose direct inheritors are computed concurrently before the found inheritors are passed to the processor
+    private static final int BATCH_SIZE = 64;
+
+    private final Project myProject;
+    private final Layer myLibraryLayer;
+    private final Layer mySourceLayer;
+    private final AtomicLong myLocalClassModificationCount = new AtomicLong();
+
+    @Inject
+    public JavaClassHierarchyGraph(Project project) {
+        myProject = project;
+
+        ModificationTracker rootsTracker = ProjectRootModificationTracker.getInstance(project);
+        PsiModificationTracker psiTracker = PsiModificationTracker.getInstance(project);
+        myLibraryLayer = new Layer(rootsTracker);
+        // also dropped with the library layer, so a class with computed source edges always has its library edges
+        mySourceLayer = new Layer(() -> psiTracker.getJavaStructureModificationCount()
+            + myLocalClassModificationCount.get()
+            + rootsTracker.getModificationCount());
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new LocalClassChangeListener(), project);
+    }
+
+    public static JavaClassHierarchyGraph getInstance(Project project) {
+        return project.getInstance(JavaClassHierarchyGraph.class);
+    }
+
+    public static boolean isEnabled() {
+        return Registry.is(REGISTRY_KEY, true);
+    }
+
+    /**
+     * Processes the inheritors of the class found in the whole project. Anonymous and final classes are not processed deeper.
+     *
+     * @param deep if false, only the direct inheritors are processed
+     * @return false if the processor stopped the search
+     */
+    public boolean processInheritors(
+        PsiClass baseClass,
+        boolean includeAnonymous,
+        boolean deep,
+        Predicate<? super PsiClass> processor
+    ) {
+        Application app = myProject.getApplication();
+        boolean parallel = JavaClassInheritorsSearcher.isParallel();
+
+        Deque<PsiAnchor> stack = new ArrayDeque<>();
+        Set<PsiAnchor> processed = new HashSet<>();
+        stack.push(app.runReadAction((Supplier<PsiAnchor>)() -> PsiAnchor.create(baseClass)));
+
+        List<PsiAnchor> batch = new ArrayList<>(BATCH_SIZE);
+        List<PsiAnchor> inheritors = new ArrayList<>();
+        IntList inheritorFlags = IntLists.newArrayList();
+        while (!stack.isEmpty()) {
+            ProgressManager.checkCanceled();
+
+            batch.clear();
+            while (!stack.isEmpty() && batch.size() < BATCH_SIZE) {
+                PsiAnchor anchor = stack.pop();
+                if (processed.add(anchor)) {
+                    batch.add(anchor);
+                }
+            }
+            if (parallel && batch.size() > 1) {
+                // only a batch is computed ahead, so a processor which stops the search early doesn't wait for the whole hierarchy
+                JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+                    batch,
+                    ProgressIndicatorProvider.getGlobalProgressIndicator(),
+                    anchor -> {
+                        if (!mySourceLayer.isComputed(anchor)) {
+                            computeDirectInheritors(anchor);
+                        }
+                        return true;
+                    }
+                );
+            }
+
+            for (PsiAnchor anchor : batch) {
+                inheritors.clear();
+                inheritorFlags.clear();
+                collectDirectInheritors(anchor, inheritors, inheritorFlags);
+
+                for (int i = 0; i < inheritors.size(); i++) {
+                    ProgressManager.checkCanceled();
+
+                    int flags = inheritorFlags.get(i);
+                    if ((flags & ANONYMOUS) != 0 && !includeAnonymous) {
+                        continue;
+                    }
+
+                    PsiAnchor inheritorAnchor = inheritors.get(i);
+                    PsiClass inheritor = app.runReadAction((Supplier<PsiClass>)() -> (PsiClass)inheritorAnchor.retrieve());
+                    if (inheritor == null) {
+                        continue;
+                    }
+                    if (!processor.test(inheritor)) {
+                        return false;
+                    }
+
+                    if (deep && (flags & (ANONYMOUS | FINAL)) == 0) {
+                        stack.push(inheritorAnchor);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void collectDirectInheritors(PsiAnchor anchor, List<PsiAnchor> inheritors, IntList inheritorFlags) {
+        if (!mySourceLayer.collectDirectInheritors(anchor, inheritors, inheritorFlags)) {
+            computeDirectInheritors(anchor);
+            inheritors.clear();
+            inheritorFlags.clear();
+            mySourceLayer.collectDirectInheritors(anchor, inheritors, inheritorFlags);
+        }
+        myLibraryLayer.collectDirectInheritors(anchor, inheritors, inheritorFlags);
+    }
+
+    private void computeDirectInheritors(PsiAnchor anchor) {
+        Application app = myProject.getApplication();
+        PsiClass psiClass = app.runReadAction((Supplier<PsiClass>)() -> (PsiClass)anchor.retrieve());
+        if (psiClass == null) {
+            return;
+        }
+
+        long libraryModificationCount = myLibraryLayer.getModificationCount();
+        long sourceModificationCount = mySourceLayer.getModificationCount();
+
+        boolean compiled = psiClass instanceof PsiCompiledElement;
+        int baseFlags = app.runReadAction((Supplier<Integer>)() -> getFlags(psiClass));
+        List<PsiAnchor> libraryInheritors = new ArrayList<>();
+        IntList libraryFlags = IntLists.newArrayList();
+        List<PsiAnchor> sourceInheritors = new ArrayList<>();
+        IntList sourceFlags = IntLists.newArrayList();
+
+        // library classes don't inherit from project classes, so the known library edges only need the project ones added
+        boolean libraryComputed = compiled && myLibraryLayer.isComputed(anchor);
+        GlobalSearchScope scope = libraryComputed ? GlobalSearchScope.projectScope(myProject) : GlobalSearchScope.allScope(myProject);
+        DirectClassInheritorsSearch.search(psiClass, scope, true, true).forEach(candidate -> {
+            ProgressManager.checkCanceled();
+            app.runReadAction(() -> {
+                int flags = getFlags(candidate);
+                if (compiled && candidate instanceof PsiCompiledElement) {
+                    libraryInheritors.add(PsiAnchor.create(candidate));
+                    libraryFlags.add(flags);
+                }
+                else {
+                    sourceInheritors.add(PsiAnchor.create(candidate));
+                    sourceFlags.add(flags);
+                }
+            });
+            return true;
+        });
+
+        if (compiled && !libraryComputed) {
+            myLibraryLayer.putDirectInheritors(anchor, baseFlags, libraryInheritors, libraryFlags, libraryModificationCount);
+        }
+        mySourceLayer.putDirectInheritors(anchor, baseFlags, sourceInheritors, sourceFlags, sourceModificationCount);
+    }
+
+    @RequiredReadAction
+    private static int getFlags(PsiClass psiClass) {
+        return (psiClass instanceof PsiAnonymousClass ? ANONYMOUS : 0) | (psiClass.isFinal() ? FINAL : 0);
+    }
+
+    /**
+     * Counts the changes which add, remove or edit local and anonymous classes: they are inheritors too, but changes inside
+     * code blocks are not java structure changes
+     */
+    private final class LocalClassChangeListener extends PsiTreeChangeAdapter {
+        @Override
+        public void beforeChildRemoval(PsiTreeChangeEvent event) {
+            checkChange(event, event.getChild());
+        }
+
+        @Override
+        public void beforeChildReplacement(PsiTreeChangeEvent event) {
+            checkChange(event, event.getOldChild());
+        }
+
+        @Override
+        public void beforeChildrenChange(PsiTreeChangeEvent event) {
+            checkChange(event, event.getParent());
+        }
+
+        @Override
+        public void childAdded(PsiTreeChangeEvent event) {
+            checkChange(event, event.getChild());
+        }
+
+        @Override
+        public void childReplaced(PsiTreeChangeEvent event) {
+            checkChange(event, event.getNewChild());
+        }
+
+        @Override
+        public void childrenChanged(PsiTreeChangeEvent event) {
+            checkChange(event, event.getParent());
+        }
+
+        @RequiredReadAction
+        private void checkChange(PsiTreeChangeEvent event, @Nullable PsiElement element) {
+            if (element == null || !(event.getFile() instanceof PsiClassOwner)) {
+                return;
+            }
+            PsiClass enclosingClass = PsiTreeUtil.getParentOfType(element, PsiClass.class, false);
+            if (enclosingClass != null && PsiUtil.isLocalOrAnonymousClass(enclosingClass)
+                || PsiTreeUtil.findChildOfType(element, PsiClass.class, true) != null) {
+                myLocalClassModificationCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class Layer {
+        private final ModificationTracker myTracker;
+        private long myModificationCount = -1;
+
+        private final ObjectIntMap<PsiAnchor> myIds = ObjectMaps.newObjectIntHashMap();
+        // id - 1 -> class
+        private final List<PsiAnchor> myAnchors = new ArrayList<>();
+        // id - 1 -> ANONYMOUS, FINAL flags
+        private final IntList myFlags = IntLists.newArrayList();
+        // id -> ids of the direct inheritors
+        private final IntObjectMap<int[]> myDirectInheritors = IntMaps.newIntObjectHashMap();
+
+        private Layer(ModificationTracker tracker) {
+            myTracker = tracker;
+        }
+
+        synchronized boolean isComputed(PsiAnchor anchor) {
+            checkUpToDate();
+            return getDirectInheritorIds(anchor) != null;
+        }
+
+        synchronized long getModificationCount() {
+            checkUpToDate();
+            return myModificationCount;
+        }
+
+        /**
+         * @return false if the direct inheritors of the class were not computed yet
+         */
+        synchronized boolean collectDirectInheritors(PsiAnchor anchor, List<PsiAnchor> inheritors, IntList inheritorFlags) {
+            checkUpToDate();
+            int[] ids = getDirectInheritorIds(anchor);
+            if (ids == null) {
+                return false;
+            }
+            for (int id : ids) {
+                inheritors.add(myAnchors.get(id - 1));
+                inheritorFlags.add(myFlags.get(id - 1));
+            }
+            return true;
+        }
+
+        synchronized void putDirectInheritors(
+            PsiAnchor anchor,
+            int flags,
+            List<PsiAnchor> inheritors,
+            IntList inheritorFlags,
+            long modificationCount
+        ) {
+            checkUpToDate();
+            if (modificationCount != myModificationCount) {
+                // computed over outdated PSI
+                return;
+            }
+            int[] ids = new int[inheritors.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = enumerate(inheritors.get(i), inheritorFlags.get(i));
+            }
+            myDirectInheritors.put(enumerate(anchor, flags), ids);
+        }
+
+        @Nullable
+        private int[] getDirectInheritorIds(PsiAnchor anchor) {
+            int id = myIds.getInt(anchor);
+            return id == 0 ? null : myDirectInheritors.get(id);
+        }
+
+        private int enumerate(PsiAnchor anchor, int flags) {
+            int id = myIds.getInt(anchor);
+            if (id == 0) {
+                myAnchors.add(anchor);
+                myFlags.add(flags);
+                id = myAnchors.size();
+                myIds.putInt(anchor, id);
+            }
+            return id;
+        }
+
+        private void checkUpToDate() {
+            long modificationCount = myTracker.getModificationCount();
+            if (modificationCount != myModificationCount) {
+                myIds.clear();
+                myAnchors.clear();
+                myFlags.clear();
+                myDirectInheritors.clear();
+                myModificationCount = modificationCount;
+            }
+        }
+    }
+}
@@ -29,6 +29,7 @@ import consulo.application.progress.ProgressIndicator;
 import consulo.application.progress.ProgressIndicatorProvider;
 import consulo.application.progress.ProgressManager;
 import consulo.application.util.ReadActionProcessor;
+import consulo.application.util.registry.Registry;
 import consulo.content.scope.SearchScope;
 import consulo.language.psi.PsiAnchor;
 import consulo.language.psi.PsiBundle;
@@ -51,6 +52,8 @@ import java.util.function.Supplier;
 public class JavaClassInheritorsSearcher extends QueryExecutorBase<PsiClass, ClassInheritorsSearch.SearchParameters> implements ClassInheritorsSearchExecutor {
     private static final Logger LOG = Logger.getInstance(JavaClassInheritorsSearcher.class);
 
+    public static final String PARALLEL_REGISTRY_KEY = "java.inheritors.search.parallel";
+
     private final Application myApplication;
 
     @Inject
@@ -103,6 +106,16 @@ public class JavaClassInheritorsSearcher extends QueryExecutorBase<PsiClass, Cla
             return;
         }
 
+        if (parameters.isCheckInheritance() && JavaClassHierarchyGraph.isEnabled()) {
+            JavaClassHierarchyGraph.getInstance(project).processInheritors(
+                baseClass,
+                parameters.isIncludeAnonymous(),
+                parameters.isCheckDeep(),
+                candidate -> app.runReadAction((Supplier<Boolean>)() -> processFoundInheritor(candidate, searchScope, parameters, consumer))
+            );
+            return;
+        }
+
         SimpleReference<PsiClass> currentBase = SimpleReference.create(null);
         Stack<PsiAnchor> stack = new Stack<>();
         Set<PsiAnchor> processed = new HashSet<>();
@@ -119,15 +132,11 @@ public class JavaClassInheritorsSearcher extends QueryExecutorBase<PsiClass, Cla
                     }
                 }
 
-                if (PsiSearchScopeUtil.isInScope(searchScope, candidate)) {
-                    if (candidate instanceof PsiAnonymousClass) {
-                        return consumer.test(candidate);
-                    }
-
-                    String name = candidate.getName();
-                    if (name != null && parameters.getNameCondition().test(name) && !consumer.test(candidate)) {
-                        return false;
-                    }
+                if (!processFoundInheritor(candidate, searchScope, parameters, consumer)) {
+                    return false;
+                }
+                if (candidate instanceof PsiAnonymousClass) {
+                    return true;
                 }
 
                 if (parameters.isCheckDeep() && !(candidate instanceof PsiAnonymousClass) && !isFinal(app, candidate)) {
@@ -160,6 +169,31 @@ public class JavaClassInheritorsSearcher extends QueryExecutorBase<PsiClass, Cla
         }
     }
 
+    /**
+     * @return true if the classes of a hierarchy and the inheritor candidates may be processed concurrently,
+     * the found inheritors are passed to the consumer on the searching thread anyway
+     */
+    public static boolean isParallel() {
+        return Registry.is(PARALLEL_REGISTRY_KEY, true);
+    }
+
+    @RequiredReadAction
+    private static boolean processFoundInheritor(
+        PsiClass candidate,
+        SearchScope searchScope,
+        ClassInheritorsSearch.SearchParameters parameters,
+        Predicate<? super PsiClass> consumer
+    ) {
+        if (!PsiSearchScopeUtil.isInScope(searchScope, candidate)) {
+            return true;
+        }
+        if (candidate instanceof PsiAnonymousClass) {
+            return consumer.test(candidate);
+        }
+        String name = candidate.getName();
+        return name == null || !parameters.getNameCondition().test(name) || consumer.test(candidate);
+    }
+
     private static boolean isJavaLangObject(Application application, PsiClass baseClass) {
         return application.runReadAction(
             (Supplier<Boolean>)() -> baseClass.isValid() && CommonClassNames.JAVA_LANG_OBJECT.equals(baseClass.getQualifiedName())
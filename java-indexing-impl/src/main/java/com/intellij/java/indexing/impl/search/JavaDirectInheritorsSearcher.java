@@ -24,7 +24,9 @@ import com.intellij.java.language.psi.*;
 import com.intellij.java.language.psi.util.PsiUtil;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.application.Application;
+import consulo.application.progress.ProgressIndicatorProvider;
 import consulo.application.progress.ProgressManager;
+import consulo.application.util.concurrent.JobLauncher;
 import consulo.content.scope.SearchScope;
 import consulo.language.psi.PsiElement;
 import consulo.language.psi.PsiUtilCore;
@@ -37,6 +39,7 @@ import consulo.util.lang.StringUtil;
 import consulo.virtualFileSystem.VirtualFile;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -45,6 +48,9 @@ import java.util.function.Supplier;
  */
 @ExtensionImpl
 public class JavaDirectInheritorsSearcher implements DirectClassInheritorsSearchExecutor {
+    // candidates are verified concurrently if there are more of them
+    private static final int PARALLEL_CHECK_THRESHOLD = 100;
+
     @Override
     public boolean execute(
         DirectClassInheritorsSearch.SearchParameters p,
@@ -86,13 +92,39 @@ public class JavaDirectInheritorsSearcher implements DirectClassInheritorsSearch
             () -> JavaSuperClassNameOccurenceIndex.getInstance().get(searchKey, project, scope)
         );
 
+        Map<PsiReferenceList, PsiClass> verified = null;
+        if (p.isCheckInheritance() && candidates.size() > PARALLEL_CHECK_THRESHOLD && JavaClassInheritorsSearcher.isParallel()) {
+            Map<PsiReferenceList, PsiClass> verifiedCandidates = new ConcurrentHashMap<>();
+            JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+                new ArrayList<>(candidates),
+                ProgressIndicatorProvider.getGlobalProgressIndicator(),
+                referenceList -> {
+                    PsiClass candidate = (PsiClass)app.runReadAction((Supplier<PsiElement>)referenceList::getParent);
+                    if (checkInheritance(p, aClass, candidate, project)) {
+                        verifiedCandidates.put(referenceList, candidate);
+                    }
+                    return true;
+                }
+            );
+            verified = verifiedCandidates;
+        }
+
         Map<String, List<PsiClass>> classes = new HashMap<>();
 
         for (PsiReferenceList referenceList : candidates) {
             ProgressManager.checkCanceled();
-            PsiClass candidate = (PsiClass)app.runReadAction((Supplier<PsiElement>)referenceList::getParent);
-            if (!checkInheritance(p, aClass, candidate, project)) {
-                continue;
+            PsiClass candidate;
+            if (verified != null) {
+                candidate = verified.get(referenceList);
+                if (candidate == null) {
+                    continue;
+                }
+            }
+            else {
+                candidate = (PsiClass)app.runReadAction((Supplier<PsiElement>)referenceList::getParent);
+                if (!checkInheritance(p, aClass, candidate, project)) {
+                    continue;
+                }
             }
 
             String fqn = app.runReadAction((Supplier<String>)candidate::getQualifiedName);
@@ -16,35 +16,42 @@
 package com.intellij.java.indexing.impl.search;
 
 import com.intellij.java.language.impl.JavaFileType;
+import com.intellij.java.language.impl.psi.impl.cache.RecordUtil;
 import com.intellij.java.language.impl.psi.impl.java.stubs.JavaStubElementTypes;
-import com.intellij.java.language.psi.*;
+import com.intellij.java.language.impl.psi.impl.source.JavaLightTreeUtil;
+import com.intellij.java.language.impl.psi.impl.source.tree.ElementType;
+import com.intellij.java.language.psi.JavaTokenType;
 import consulo.annotation.component.ExtensionImpl;
+import consulo.application.util.StringSearcher;
 import consulo.index.io.DataIndexer;
 import consulo.index.io.EnumeratorStringDescriptor;
 import consulo.index.io.ID;
 import consulo.index.io.KeyDescriptor;
 import consulo.index.io.data.DataExternalizer;
 import consulo.index.io.data.DataInputOutputUtil;
-import consulo.language.psi.PsiElement;
-import consulo.language.psi.PsiFile;
-import consulo.language.psi.SyntaxTraverser;
-import consulo.language.psi.stub.DefaultFileTypeSpecificInputFilter;
-import consulo.language.psi.stub.FileBasedIndex;
-import consulo.language.psi.stub.FileBasedIndexExtension;
-import consulo.language.psi.stub.FileContent;
-import consulo.language.psi.util.PsiTreeUtil;
-import consulo.util.lang.StringUtil;
+import consulo.language.ast.IElementType;
+import consulo.language.ast.LightTreeUtil;
+import consulo.language.ast.LighterAST;
+import consulo.language.ast.LighterASTNode;
+import consulo.language.ast.TokenSet;
+import consulo.language.psi.stub.*;
+import org.jspecify.annotations.Nullable;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.*;
 
+import static com.intellij.java.language.impl.psi.impl.source.tree.JavaElementType.*;
+
 @ExtensionImpl
 public class JavaFunctionalExpressionIndex extends FileBasedIndexExtension<String, Collection<JavaFunctionalExpressionIndex.IndexHolder>> {
   public static final ID<String, Collection<IndexHolder>> JAVA_FUNCTIONAL_EXPRESSION_INDEX_ID = ID.create("java.functional.expression");
-  private static final String THIS_REF_NAME = "this";
-  private static final String SUPER_REF_NAME = "super";
+  private static final TokenSet REFERENCE_NAME_TOKENS = TokenSet.create(JavaTokenType.IDENTIFIER, JavaTokenType.THIS_KEYWORD, JavaTokenType.SUPER_KEYWORD);
+  private static final TokenSet CLASS_TYPES = TokenSet.create(CLASS, ANONYMOUS_CLASS, ENUM_CONSTANT_INITIALIZER);
+  // statements and modifier list owners
+  private static final TokenSet EXPRESSION_LIST_STOP_SET = TokenSet.orSet(ElementType.JAVA_STATEMENT_BIT_SET, ElementType.FULL_MEMBER_BIT_SET, TokenSet.create(
+    ANONYMOUS_CLASS, ENUM_CONSTANT_INITIALIZER, LOCAL_VARIABLE, RESOURCE_VARIABLE, PARAMETER, RECORD_COMPONENT));
 
   @Override
   public ID<String, Collection<IndexHolder>> getName() {
@@ -60,75 +67,106 @@ public class JavaFunctionalExpressionIndex extends FileBasedIndexExtension<Strin
           return Collections.emptyMap();
         }
         final CharSequence contentAsText = inputData.getContentAsText();
-        if (!StringUtil.contains(contentAsText, "::") && !StringUtil.contains(contentAsText, "->")) {
-          return Collections.emptyMap();
-        }
-
-        final PsiFile file = inputData.getPsiFile();
-        if (!(file instanceof PsiJavaFile)) {
+        final int[] arrowOffsets = new StringSearcher("->", true, true).findAllOccurrences(contentAsText);
+        final int[] doubleColonOffsets = new StringSearcher("::", true, true).findAllOccurrences(contentAsText);
+        if (arrowOffsets.length == 0 && doubleColonOffsets.length == 0) {
           return Collections.emptyMap();
         }
 
+        // the light tree is shared with the stub builder, so no PSI is created for the file
+        final LighterAST tree = ((PsiDependentFileContent) inputData).getLighterAST();
         final HashMap<String, Collection<IndexHolder>> methodsMap = new HashMap<>();
-        for (PsiFunctionalExpression expression : SyntaxTraverser.psiTraverser().withRoot(file).filter(PsiFunctionalExpression.class)) {
-          final PsiExpressionList expressionList = PsiTreeUtil.getParentOfType(expression, PsiExpressionList.class, true, PsiStatement.class, PsiModifierListOwner.class);
-          if (expressionList != null) {
-            final PsiElement parent = expressionList.getParent();
-            String methodName = null;
-            if (parent instanceof PsiMethodCallExpression) {
-              methodName = ((PsiMethodCallExpression) parent).getMethodExpression().getReferenceName();
-              if (methodName != null) {
-                final boolean thisRef = methodName.equals(THIS_REF_NAME);
-                if (thisRef || methodName.equals(SUPER_REF_NAME)) {
-                  methodName = null;
-                  final PsiClass containingClass = PsiTreeUtil.getParentOfType(parent, PsiClass.class);
-                  if (containingClass != null) {
-                    if (thisRef) {
-                      methodName = containingClass.getName();
-                    } else {
-                      final PsiReferenceList extendsList = containingClass.getExtendsList();
-                      if (extendsList != null) {
-                        final PsiJavaCodeReferenceElement[] referenceElements = extendsList.getReferenceElements();
-                        if (referenceElements.length > 0) {
-                          methodName = referenceElements[0].getReferenceName();
-                        }
-                      }
-                    }
-                  }
-                }
-              }
-            } else if (parent instanceof PsiNewExpression) {
-              final PsiJavaCodeReferenceElement classReference = ((PsiNewExpression) parent).getClassOrAnonymousClassReference();
-              if (classReference != null) {
-                methodName = classReference.getReferenceName();
-              }
-            } else if (parent instanceof PsiEnumConstant) {
-              final PsiClass containingClass = ((PsiEnumConstant) parent).getContainingClass();
-              if (containingClass != null) {
-                final String shortEnumName = containingClass.getName();
-                if (shortEnumName != null) { //should be always true as enums can't be local
-                  methodName = shortEnumName;
-                }
-              }
-            }
-
-            if (methodName != null) {
-              Collection<IndexHolder> holders = methodsMap.get(methodName);
-              if (holders == null) {
-                holders = new HashSet<IndexHolder>();
-                methodsMap.put(methodName, holders);
-              }
-              holders.add(new IndexHolder(expression instanceof PsiLambdaExpression ? ((PsiLambdaExpression) expression).getParameterList().getParametersCount() : -1,
-                  expressionList.getExpressions().length, LambdaUtil.getLambdaIdx(expressionList, expression)));
-            }
-          }
-        }
-
+        indexFunctionalExpressions(tree, arrowOffsets, JavaTokenType.ARROW, LAMBDA_EXPRESSION, methodsMap);
+        indexFunctionalExpressions(tree, doubleColonOffsets, JavaTokenType.DOUBLE_COLON, METHOD_REF_EXPRESSION, methodsMap);
         return methodsMap;
       }
     };
   }
 
+  private static void indexFunctionalExpressions(LighterAST tree,
+                                                 int[] tokenOffsets,
+                                                 IElementType tokenType,
+                                                 IElementType expressionType,
+                                                 Map<String, Collection<IndexHolder>> methodsMap) {
+    for (int offset : tokenOffsets) {
+      final LighterASTNode token = LightTreeUtil.findLeafElementAt(tree, offset);
+      if (token == null || token.getTokenType() != tokenType) { // e.g. comments, literals or switch rules
+        continue;
+      }
+      final LighterASTNode expression = tree.getParent(token);
+      if (expression == null || expression.getTokenType() != expressionType) {
+        continue;
+      }
+
+      final LighterASTNode expressionList = LightTreeUtil.getParentOfType(tree, expression, TokenSet.create(EXPRESSION_LIST), EXPRESSION_LIST_STOP_SET);
+      if (expressionList == null) {
+        continue;
+      }
+      final String methodName = getCalledMethodName(tree, tree.getParent(expressionList));
+      if (methodName != null) {
+        Collection<IndexHolder> holders = methodsMap.get(methodName);
+        if (holders == null) {
+          holders = new HashSet<IndexHolder>();
+          methodsMap.put(methodName, holders);
+        }
+        final List<LighterASTNode> arguments = JavaLightTreeUtil.getExpressionChildren(tree, expressionList);
+        holders.add(new IndexHolder(expressionType == LAMBDA_EXPRESSION ? getLambdaParametersCount(tree, expression) : -1,
+            arguments.size(), getArgumentIndex(arguments, expression)));
+      }
+    }
+  }
+
+  @Nullable
+  private static String getCalledMethodName(LighterAST tree, @Nullable LighterASTNode call) {
+    if (call == null) {
+      return null;
+    }
+    final IElementType callType = call.getTokenType();
+    if (callType == METHOD_CALL_EXPRESSION) {
+      final LighterASTNode methodExpression = LightTreeUtil.firstChildOfType(tree, call, REFERENCE_EXPRESSION);
+      final LighterASTNode nameElement = LightTreeUtil.firstChildOfType(tree, methodExpression, REFERENCE_NAME_TOKENS);
+      if (nameElement == null) {
+        return null;
+      }
+      if (nameElement.getTokenType() == JavaTokenType.IDENTIFIER) {
+        return RecordUtil.intern(tree.getCharTable(), nameElement);
+      }
+
+      final LighterASTNode containingClass = LightTreeUtil.getParentOfType(tree, call, CLASS_TYPES, TokenSet.EMPTY);
+      if (containingClass == null || containingClass.getTokenType() != CLASS) { // anonymous classes have neither name nor extends list
+        return null;
+      }
+      if (nameElement.getTokenType() == JavaTokenType.THIS_KEYWORD) {
+        return JavaLightTreeUtil.getNameIdentifierText(tree, containingClass);
+      }
+      final LighterASTNode extendsList = LightTreeUtil.firstChildOfType(tree, containingClass, EXTENDS_LIST);
+      return JavaLightTreeUtil.getNameIdentifierText(tree, LightTreeUtil.firstChildOfType(tree, extendsList, JAVA_CODE_REFERENCE));
+    }
+    if (callType == NEW_EXPRESSION) {
+      return JavaLightTreeUtil.getNameIdentifierText(tree, LightTreeUtil.firstChildOfType(tree, call, JAVA_CODE_REFERENCE));
+    }
+    if (callType == ENUM_CONSTANT) {
+      final LighterASTNode enumClass = tree.getParent(call);
+      return enumClass != null && enumClass.getTokenType() == CLASS ? JavaLightTreeUtil.getNameIdentifierText(tree, enumClass) : null;
+    }
+    return null;
+  }
+
+  private static int getLambdaParametersCount(LighterAST tree, LighterASTNode lambda) {
+    final LighterASTNode parameterList = LightTreeUtil.firstChildOfType(tree, lambda, PARAMETER_LIST);
+    return parameterList == null ? 0 : LightTreeUtil.getChildrenOfType(tree, parameterList, PARAMETER).size();
+  }
+
+  private static int getArgumentIndex(List<LighterASTNode> arguments, LighterASTNode expression) {
+    for (int i = 0; i < arguments.size(); i++) {
+      final LighterASTNode argument = arguments.get(i);
+      if (argument.getStartOffset() <= expression.getStartOffset() && expression.getEndOffset() <= argument.getEndOffset()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   @Override
   public KeyDescriptor<String> getKeyDescriptor() {
     return EnumeratorStringDescriptor.INSTANCE;
@@ -171,7 +209,7 @@ public class JavaFunctionalExpressionIndex extends FileBasedIndexExtension<Strin
 
   @Override
   public int getVersion() {
-    return 0;
+    return 1;
   }
 
   public static class IndexHolder {
@@ -0,0 +1,169 @@
+package com.intellij.java.indexing.impl.search;
+
+import com.intellij.java.language.impl.JavaFileType;
+import com.intellij.java.language.impl.psi.impl.cache.RecordUtil;
+import com.intellij.java.language.impl.psi.impl.java.stubs.JavaStubElementTypes;
+import com.intellij.java.language.impl.psi.impl.source.JavaLightTreeUtil;
+import com.intellij.java.language.psi.JavaTokenType;
+import consulo.annotation.component.ExtensionImpl;
+import consulo.index.io.DataIndexer;
+import consulo.index.io.EnumeratorStringDescriptor;
+import consulo.index.io.ID;
+import consulo.index.io.KeyDescriptor;
+import consulo.index.io.data.DataExternalizer;
+import consulo.language.ast.LightTreeUtil;
+import consulo.language.ast.LighterAST;
+import consulo.language.ast.LighterASTNode;
+import consulo.language.ast.RecursiveLighterASTNodeWalkingVisitor;
+import consulo.language.psi.stub.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.intellij.java.language.impl.psi.impl.source.tree.JavaElementType.*;
+
+/**
+ * Summary of the method calls in a java file: called method name -> mask of the argument counts of its calls.
+ * <p>
+ * Lets method usages search skip the files where a popular method name is only called with argument counts which none
+ * of the searched methods accepts, before any PSI of the file is loaded. Occurrences of the name which are not call
+ * names (method references, imports, javadoc, declarations, literals) make the mask {@link #UNKNOWN}, so such files are
+ * always searched.
+ */
+@ExtensionImpl
+public class JavaMethodCallArityIndex extends FileBasedIndexExtension<String, Integer> {
+  public static final ID<String, Integer> INDEX_ID = ID.create("java.method.call.arity");
+
+  // bits 0..MAX_ARGUMENTS - 1 are calls with that argument count
+  public static final int MAX_ARGUMENTS = 30;
+  public static final int MANY_ARGUMENTS = 1 << MAX_ARGUMENTS;
+  public static final int UNKNOWN = 1 << 31;
+
+  @Override
+  public ID<String, Integer> getName() {
+    return INDEX_ID;
+  }
+
+  @Override
+  public DataIndexer<String, Integer, FileContent> getIndexer() {
+    return new DataIndexer<String, Integer, FileContent>() {
+      @Override
+      public Map<String, Integer> map(FileContent inputData) {
+        if (!JavaStubElementTypes.JAVA_FILE.shouldBuildStubFor(inputData.getFile())) {
+          return Collections.emptyMap();
+        }
+
+        final LighterAST tree = ((PsiDependentFileContent) inputData).getLighterAST();
+        final Map<String, Integer> masks = new HashMap<>();
+        final Map<String, int[]> callCounts = new HashMap<>();
+        new RecursiveLighterASTNodeWalkingVisitor(tree) {
+          @Override
+          public void visitNode(LighterASTNode element) {
+            if (element.getTokenType() == METHOD_CALL_EXPRESSION) {
+              indexCall(tree, element, masks, callCounts);
+            }
+            super.visitNode(element);
+          }
+        }.visitNode(tree.getRoot());
+        if (masks.isEmpty()) {
+          return Collections.emptyMap();
+        }
+
+        markUnknownOccurrences(inputData.getContentAsText(), masks, callCounts);
+        return masks;
+      }
+    };
+  }
+
+  private static void indexCall(LighterAST tree, LighterASTNode call, Map<String, Integer> masks, Map<String, int[]> callCounts) {
+    final LighterASTNode methodExpression = LightTreeUtil.firstChildOfType(tree, call, REFERENCE_EXPRESSION);
+    final LighterASTNode nameElement = LightTreeUtil.firstChildOfType(tree, methodExpression, JavaTokenType.IDENTIFIER);
+    if (nameElement == null) { // this(...) and super(...) calls are found by the constructor search
+      return;
+    }
+    final List<LighterASTNode> arguments = JavaLightTreeUtil.getArgList(tree, call);
+    final int count = arguments == null ? 0 : arguments.size();
+
+    final String name = RecordUtil.intern(tree.getCharTable(), nameElement);
+    final Integer mask = masks.get(name);
+    masks.put(name, (mask == null ? 0 : mask) | (count < MAX_ARGUMENTS ? 1 << count : MANY_ARGUMENTS));
+    callCounts.computeIfAbsent(name, k -> new int[1])[0]++;
+  }
+
+  /**
+   * Marks the names which occur in the text more times than they are called
+   */
+  private static void markUnknownOccurrences(CharSequence text, Map<String, Integer> masks, Map<String, int[]> callCounts) {
+    final int length = text.length();
+    int i = 0;
+    while (i < length) {
+      if (!Character.isJavaIdentifierStart(text.charAt(i))) {
+        i++;
+        continue;
+      }
+      final int start = i;
+      while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+        i++;
+      }
+      final String name = text.subSequence(start, i).toString();
+      final int[] count = callCounts.get(name);
+      if (count != null && --count[0] < 0) {
+        masks.put(name, UNKNOWN);
+      }
+    }
+  }
+
+  /**
+   * @return mask of the argument counts accepted by a method with the given parameters
+   */
+  public static int getAcceptedMask(int parametersCount, boolean varArgs) {
+    if (!varArgs) {
+      return parametersCount < MAX_ARGUMENTS ? 1 << parametersCount : MANY_ARGUMENTS;
+    }
+    int mask = MANY_ARGUMENTS;
+    for (int count = parametersCount - 1; count < MAX_ARGUMENTS; count++) {
+      mask |= 1 << count;
+    }
+    return mask;
+  }
+
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @Override
+  public DataExternalizer<Integer> getValueExternalizer() {
+    return new DataExternalizer<Integer>() {
+      @Override
+      public void save(DataOutput out, Integer mask) throws IOException {
+        out.writeInt(mask);
+      }
+
+      @Override
+      public Integer read(DataInput in) throws IOException {
+        return in.readInt();
+      }
+    };
+  }
+
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(JavaFileType.INSTANCE);
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  @Override
+  public int getVersion() {
+    return 0;
+  }
+}
@@ -22,8 +22,10 @@ import com.intellij.java.language.psi.PsiAnonymousClass;
 import com.intellij.java.language.psi.PsiClass;
 import com.intellij.java.language.psi.PsiMethod;
 import com.intellij.java.language.psi.util.PsiUtil;
+import consulo.annotation.access.RequiredReadAction;
 import consulo.annotation.component.ExtensionImpl;
 import consulo.application.Application;
+import consulo.application.util.registry.Registry;
 import consulo.content.scope.SearchScope;
 import consulo.language.psi.PsiManager;
 import consulo.language.psi.PsiReference;
@@ -31,11 +33,15 @@ import consulo.language.psi.scope.GlobalSearchScope;
 import consulo.language.psi.search.ReferencesSearch;
 import consulo.language.psi.search.SearchRequestCollector;
 import consulo.language.psi.search.UsageSearchContext;
+import consulo.language.psi.stub.FileBasedIndex;
 import consulo.project.DumbService;
 import consulo.project.Project;
 import consulo.project.util.query.QueryExecutorBase;
 import consulo.util.lang.StringUtil;
+import consulo.virtualFileSystem.VirtualFile;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -45,6 +51,8 @@ import java.util.function.Supplier;
 @ExtensionImpl
 public class MethodUsagesSearcher extends QueryExecutorBase<PsiReference, MethodReferencesSearch.SearchParameters>
     implements MethodReferencesSearchExecutor {
+    public static final String ARITY_FILTER_REGISTRY_KEY = "java.method.usages.arity.filter";
+
     @Override
     public void processQuery(
         MethodReferencesSearch.SearchParameters p,
@@ -132,7 +140,7 @@ public class MethodUsagesSearcher extends QueryExecutorBase<PsiReference, Method
                 short searchContext = UsageSearchContext.IN_CODE | UsageSearchContext.IN_COMMENTS | UsageSearchContext.IN_FOREIGN_LANGUAGES;
                 collector.searchWord(
                     methodName[0],
-                    restrictedByAccessScope,
+                    excludeFilesWithoutSuitableCalls(p.getProject(), restrictedByAccessScope, methodName[0], methods),
                     searchContext,
                     true,
                     method,
@@ -145,6 +153,47 @@ public class MethodUsagesSearcher extends QueryExecutorBase<PsiReference, Method
         );
     }
 
+    /**
+     * Excludes java files where the method name is only called with argument counts which none of the methods accepts,
+     * see {@link JavaMethodCallArityIndex}
+     */
+    @RequiredReadAction
+    private static SearchScope excludeFilesWithoutSuitableCalls(
+        Project project,
+        SearchScope scope,
+        String methodName,
+        PsiMethod[] methods
+    ) {
+        if (!(scope instanceof GlobalSearchScope) || !Registry.is(ARITY_FILTER_REGISTRY_KEY, true)
+            || DumbService.isDumb(project)) {
+            return scope;
+        }
+
+        int acceptedMask = JavaMethodCallArityIndex.MANY_ARGUMENTS | JavaMethodCallArityIndex.UNKNOWN;
+        for (PsiMethod method : methods) {
+            acceptedMask |= JavaMethodCallArityIndex.getAcceptedMask(method.getParameterList().getParametersCount(), method.isVarArgs());
+        }
+
+        int finalAcceptedMask = acceptedMask;
+        List<VirtualFile> excludedFiles = new ArrayList<>();
+        FileBasedIndex.getInstance().processValues(
+            JavaMethodCallArityIndex.INDEX_ID,
+            methodName,
+            null,
+            (file, mask) -> {
+                if ((mask & finalAcceptedMask) == 0) {
+                    excludedFiles.add(file);
+                }
+                return true;
+            },
+            (GlobalSearchScope)scope
+        );
+        if (excludedFiles.isEmpty()) {
+            return scope;
+        }
+        return scope.intersectWith(GlobalSearchScope.notScope(GlobalSearchScope.filesScope(project, excludedFiles)));
+    }
+
     static <T> T resolveInReadAction(Project p, Supplier<T> computable) {
         return Application.get().isReadAccessAllowed()
             ? computable.get()
@@ -16,6 +16,28 @@
 
 namespace * consulo.java.rt.common.compiler
 
+enum CompilerMessageKind
+{
+  ERROR = 1,
+  WARNING = 2,
+  INFO = 3
+}
+
+struct CompilerMessage
+{
+  1:CompilerMessageKind kind;
+  2:string message;
+  3:string fileUri;
+  4:i64 lineNumber;
+  5:i64 columnNumber;
+}
+
+struct CompiledClass
+{
+  1:string filePath;
+  2:binary content;
+}
+
 service JavaCompilerInterface
 {
   void logInfo(1:string message, 2:string fileUri, 3:i64 lineNumber, 4:i64 columnNumber);
@@ -25,4 +47,10 @@ service JavaCompilerInterface
   void logWarning(1:string message, 2:string fileUri, 3:i64 lineNumber, 4:i64 columnNumber);
 
   void fileWrote(1:string filePath);
+
+  void logMessages(1:list<CompilerMessage> messages);
+
+  void filesWrote(1:list<string> filePaths);
+
+  void classesWrote(1:list<CompiledClass> classes);
 }
\ No newline at end of file
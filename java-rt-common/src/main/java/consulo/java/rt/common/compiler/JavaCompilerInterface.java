@@ -29,8 +29,11 @@ import org.apache.thrift.async.TAsyncClientManager;
 import org.apache.thrift.async.TAsyncMethodCall;
 import org.apache.thrift.meta_data.FieldMetaData;
 import org.apache.thrift.meta_data.FieldValueMetaData;
+import org.apache.thrift.meta_data.ListMetaData;
+import org.apache.thrift.meta_data.StructMetaData;
 import org.apache.thrift.protocol.TCompactProtocol;
 import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TList;
 import org.apache.thrift.protocol.TMessage;
 import org.apache.thrift.protocol.TMessageType;
 import org.apache.thrift.protocol.TProtocol;
@@ -64,11 +67,13 @@ import java.lang.Long;
 import java.lang.Object;
 import java.lang.String;
 import java.lang.StringBuilder;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
@@ -84,6 +89,12 @@ public class JavaCompilerInterface {
 
     public void fileWrote(String filePath) throws TException;
 
+    public void logMessages(List<CompilerMessage> messages) throws TException;
+
+    public void filesWrote(List<String> filePaths) throws TException;
+
+    public void classesWrote(List<CompiledClass> classes) throws TException;
+
   }
 
   public interface AsyncIface {
@@ -96,6 +107,12 @@ public class JavaCompilerInterface {
 
     public void fileWrote(String filePath, AsyncMethodCallback<Void> resultHandler) throws TException;
 
+    public void logMessages(List<CompilerMessage> messages, AsyncMethodCallback<Void> resultHandler) throws TException;
+
+    public void filesWrote(List<String> filePaths, AsyncMethodCallback<Void> resultHandler) throws TException;
+
+    public void classesWrote(List<CompiledClass> classes, AsyncMethodCallback<Void> resultHandler) throws TException;
+
   }
 
   public static class Client extends TServiceClient implements Iface {
@@ -207,6 +224,66 @@ public class JavaCompilerInterface {
       return;
     }
 
+    public void logMessages(List<CompilerMessage> messages) throws TException
+    {
+      send_logMessages(messages);
+      recv_logMessages();
+    }
+
+    public void send_logMessages(List<CompilerMessage> messages) throws TException
+    {
+      logMessages_args args = new logMessages_args();
+      args.setMessages(messages);
+      sendBase("logMessages", args);
+    }
+
+    public void recv_logMessages() throws TException
+    {
+      logMessages_result result = new logMessages_result();
+      receiveBase(result, "logMessages");
+      return;
+    }
+
+    public void filesWrote(List<String> filePaths) throws TException
+    {
+      send_filesWrote(filePaths);
+      recv_filesWrote();
+    }
+
+    public void send_filesWrote(List<String> filePaths) throws TException
+    {
+      filesWrote_args args = new filesWrote_args();
+      args.setFilePaths(filePaths);
+      sendBase("filesWrote", args);
+    }
+
+    public void recv_filesWrote() throws TException
+    {
+      filesWrote_result result = new filesWrote_result();
+      receiveBase(result, "filesWrote");
+      return;
+    }
+
+    public void classesWrote(List<CompiledClass> classes) throws TException
+    {
+      send_classesWrote(classes);
+      recv_classesWrote();
+    }
+
+    public void send_classesWrote(List<CompiledClass> classes) throws TException
+    {
+      classesWrote_args args = new classesWrote_args();
+      args.setClasses(classes);
+      sendBase("classesWrote", args);
+    }
+
+    public void recv_classesWrote() throws TException
+    {
+      classesWrote_result result = new classesWrote_result();
+      receiveBase(result, "classesWrote");
+      return;
+    }
+
   }
   public static class AsyncClient extends TAsyncClient implements AsyncIface {
     public static class Factory implements TAsyncClientFactory<AsyncClient> {
@@ -380,6 +457,102 @@ public class JavaCompilerInterface {
       }
     }
 
+    public void logMessages(List<CompilerMessage> messages, AsyncMethodCallback<Void> resultHandler) throws TException {
+      checkReady();
+      logMessages_call method_call = new logMessages_call(messages, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class logMessages_call extends TAsyncMethodCall<Void> {
+      private List<CompilerMessage> messages;
+      public logMessages_call(List<CompilerMessage> messages, AsyncMethodCallback<Void> resultHandler, TAsyncClient client, TProtocolFactory protocolFactory, TNonblockingTransport transport) throws TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.messages = messages;
+      }
+
+      public void write_args(TProtocol prot) throws TException {
+        prot.writeMessageBegin(new TMessage("logMessages", TMessageType.CALL, 0));
+        logMessages_args args = new logMessages_args();
+        args.setMessages(messages);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws TException {
+        if (getState() != TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        TMemoryInputTransport memoryTransport = new TMemoryInputTransport(getFrameBuffer().array());
+        TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void filesWrote(List<String> filePaths, AsyncMethodCallback<Void> resultHandler) throws TException {
+      checkReady();
+      filesWrote_call method_call = new filesWrote_call(filePaths, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class filesWrote_call extends TAsyncMethodCall<Void> {
+      private List<String> filePaths;
+      public filesWrote_call(List<String> filePaths, AsyncMethodCallback<Void> resultHandler, TAsyncClient client, TProtocolFactory protocolFactory, TNonblockingTransport transport) throws TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filePaths = filePaths;
+      }
+
+      public void write_args(TProtocol prot) throws TException {
+        prot.writeMessageBegin(new TMessage("filesWrote", TMessageType.CALL, 0));
+        filesWrote_args args = new filesWrote_args();
+        args.setFilePaths(filePaths);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws TException {
+        if (getState() != TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        TMemoryInputTransport memoryTransport = new TMemoryInputTransport(getFrameBuffer().array());
+        TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void classesWrote(List<CompiledClass> classes, AsyncMethodCallback<Void> resultHandler) throws TException {
+      checkReady();
+      classesWrote_call method_call = new classesWrote_call(classes, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class classesWrote_call extends TAsyncMethodCall<Void> {
+      private List<CompiledClass> classes;
+      public classesWrote_call(List<CompiledClass> classes, AsyncMethodCallback<Void> resultHandler, TAsyncClient client, TProtocolFactory protocolFactory, TNonblockingTransport transport) throws TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.classes = classes;
+      }
+
+      public void write_args(TProtocol prot) throws TException {
+        prot.writeMessageBegin(new TMessage("classesWrote", TMessageType.CALL, 0));
+        classesWrote_args args = new classesWrote_args();
+        args.setClasses(classes);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws TException {
+        if (getState() != TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        TMemoryInputTransport memoryTransport = new TMemoryInputTransport(getFrameBuffer().array());
+        TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends TBaseProcessor<I> implements TProcessor {
@@ -397,6 +570,9 @@ public class JavaCompilerInterface {
       processMap.put("logError", new logError());
       processMap.put("logWarning", new logWarning());
       processMap.put("fileWrote", new fileWrote());
+      processMap.put("logMessages", new logMessages());
+      processMap.put("filesWrote", new filesWrote());
+      processMap.put("classesWrote", new classesWrote());
       return processMap;
     }
 
@@ -500,6 +676,81 @@ public class JavaCompilerInterface {
       }
     }
 
+    public static class logMessages<I extends Iface> extends ProcessFunction<I, logMessages_args> {
+      public logMessages() {
+        super("logMessages");
+      }
+
+      public logMessages_args getEmptyArgsInstance() {
+        return new logMessages_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public logMessages_result getResult(I iface, logMessages_args args) throws TException {
+        logMessages_result result = new logMessages_result();
+        iface.logMessages(args.messages);
+        return result;
+      }
+    }
+
+    public static class filesWrote<I extends Iface> extends ProcessFunction<I, filesWrote_args> {
+      public filesWrote() {
+        super("filesWrote");
+      }
+
+      public filesWrote_args getEmptyArgsInstance() {
+        return new filesWrote_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public filesWrote_result getResult(I iface, filesWrote_args args) throws TException {
+        filesWrote_result result = new filesWrote_result();
+        iface.filesWrote(args.filePaths);
+        return result;
+      }
+    }
+
+    public static class classesWrote<I extends Iface> extends ProcessFunction<I, classesWrote_args> {
+      public classesWrote() {
+        super("classesWrote");
+      }
+
+      public classesWrote_args getEmptyArgsInstance() {
+        return new classesWrote_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public classesWrote_result getResult(I iface, classesWrote_args args) throws TException {
+        classesWrote_result result = new classesWrote_result();
+        iface.classesWrote(args.classes);
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends TBaseAsyncProcessor<I> {
@@ -517,6 +768,9 @@ public class JavaCompilerInterface {
       processMap.put("logError", new logError());
       processMap.put("logWarning", new logWarning());
       processMap.put("fileWrote", new fileWrote());
+      processMap.put("logMessages", new logMessages());
+      processMap.put("filesWrote", new filesWrote());
+      processMap.put("classesWrote", new classesWrote());
       return processMap;
     }
 
@@ -760,72 +1014,252 @@ public class JavaCompilerInterface {
       }
     }
 
-  }
-
-  public static class logInfo_args implements TBase<logInfo_args, logInfo_args._Fields>, Serializable, Cloneable, Comparable<logInfo_args>   {
-    private static final TStruct STRUCT_DESC = new TStruct("logInfo_args");
-
-    private static final TField MESSAGE_FIELD_DESC = new TField("message", TType.STRING, (short)1);
-    private static final TField FILE_URI_FIELD_DESC = new TField("fileUri", TType.STRING, (short)2);
-    private static final TField LINE_NUMBER_FIELD_DESC = new TField("lineNumber", TType.I64, (short)3);
-    private static final TField COLUMN_NUMBER_FIELD_DESC = new TField("columnNumber", TType.I64, (short)4);
-
-    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logInfo_argsStandardSchemeFactory();
-    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logInfo_argsTupleSchemeFactory();
+    public static class logMessages<I extends AsyncIface> extends AsyncProcessFunction<I, logMessages_args, Void> {
+      public logMessages() {
+        super("logMessages");
+      }
 
-    public @Nullable String message; // required
-    public @Nullable String fileUri; // required
-    public long lineNumber; // required
-    public long columnNumber; // required
+      public logMessages_args getEmptyArgsInstance() {
+        return new logMessages_args();
+      }
 
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements TFieldIdEnum {
-      MESSAGE((short)1, "message"),
-      FILE_URI((short)2, "fileUri"),
-      LINE_NUMBER((short)3, "lineNumber"),
-      COLUMN_NUMBER((short)4, "columnNumber");
+      public AsyncMethodCallback<Void> getResultHandler(final AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            logMessages_result result = new logMessages_result();
+            try {
+              fcall.sendResponse(fb, result, TMessageType.REPLY,seqid);
+            } catch (TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(Exception e) {
+            byte msgType = TMessageType.REPLY;
+            TSerializable msg;
+            logMessages_result result = new logMessages_result();
+            if (e instanceof TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = (TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = new TApplicationException(TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
 
-      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+      protected boolean isOneway() {
+        return false;
+      }
 
-      static {
-        for (_Fields field : EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
+      public void start(I iface, logMessages_args args, AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.logMessages(args.messages,resultHandler);
       }
+    }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      @Nullable
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 1: // MESSAGE
-            return MESSAGE;
-          case 2: // FILE_URI
-            return FILE_URI;
-          case 3: // LINE_NUMBER
-            return LINE_NUMBER;
-          case 4: // COLUMN_NUMBER
-            return COLUMN_NUMBER;
-          default:
-            return null;
-        }
+    public static class filesWrote<I extends AsyncIface> extends AsyncProcessFunction<I, filesWrote_args, Void> {
+      public filesWrote() {
+        super("filesWrote");
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+      public filesWrote_args getEmptyArgsInstance() {
+        return new filesWrote_args();
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      @Nullable
+      public AsyncMethodCallback<Void> getResultHandler(final AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            filesWrote_result result = new filesWrote_result();
+            try {
+              fcall.sendResponse(fb, result, TMessageType.REPLY,seqid);
+            } catch (TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(Exception e) {
+            byte msgType = TMessageType.REPLY;
+            TSerializable msg;
+            filesWrote_result result = new filesWrote_result();
+            if (e instanceof TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = (TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = new TApplicationException(TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, filesWrote_args args, AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.filesWrote(args.filePaths,resultHandler);
+      }
+    }
+
+    public static class classesWrote<I extends AsyncIface> extends AsyncProcessFunction<I, classesWrote_args, Void> {
+      public classesWrote() {
+        super("classesWrote");
+      }
+
+      public classesWrote_args getEmptyArgsInstance() {
+        return new classesWrote_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            classesWrote_result result = new classesWrote_result();
+            try {
+              fcall.sendResponse(fb, result, TMessageType.REPLY,seqid);
+            } catch (TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(Exception e) {
+            byte msgType = TMessageType.REPLY;
+            TSerializable msg;
+            classesWrote_result result = new classesWrote_result();
+            if (e instanceof TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = (TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = TMessageType.EXCEPTION;
+              msg = new TApplicationException(TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, classesWrote_args args, AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.classesWrote(args.classes,resultHandler);
+      }
+    }
+
+  }
+
+  public static class logInfo_args implements TBase<logInfo_args, logInfo_args._Fields>, Serializable, Cloneable, Comparable<logInfo_args>   {
+    private static final TStruct STRUCT_DESC = new TStruct("logInfo_args");
+
+    private static final TField MESSAGE_FIELD_DESC = new TField("message", TType.STRING, (short)1);
+    private static final TField FILE_URI_FIELD_DESC = new TField("fileUri", TType.STRING, (short)2);
+    private static final TField LINE_NUMBER_FIELD_DESC = new TField("lineNumber", TType.I64, (short)3);
+    private static final TField COLUMN_NUMBER_FIELD_DESC = new TField("columnNumber", TType.I64, (short)4);
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logInfo_argsStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logInfo_argsTupleSchemeFactory();
+
+    public @Nullable String message; // required
+    public @Nullable String fileUri; // required
+    public long lineNumber; // required
+    public long columnNumber; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      MESSAGE((short)1, "message"),
+      FILE_URI((short)2, "fileUri"),
+      LINE_NUMBER((short)3, "lineNumber"),
+      COLUMN_NUMBER((short)4, "columnNumber");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // MESSAGE
+            return MESSAGE;
+          case 2: // FILE_URI
+            return FILE_URI;
+          case 3: // LINE_NUMBER
+            return LINE_NUMBER;
+          case 4: // COLUMN_NUMBER
+            return COLUMN_NUMBER;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
       public static _Fields findByName(String name) {
         return byName.get(name);
       }
@@ -3110,15 +3544,2006 @@ public class JavaCompilerInterface {
       }
     }
 
-    private static class logWarning_argsStandardSchemeFactory implements SchemeFactory {
-      public logWarning_argsStandardScheme getScheme() {
-        return new logWarning_argsStandardScheme();
+    private static class logWarning_argsStandardSchemeFactory implements SchemeFactory {
+      public logWarning_argsStandardScheme getScheme() {
+        return new logWarning_argsStandardScheme();
+      }
+    }
+
+    private static class logWarning_argsStandardScheme extends StandardScheme<logWarning_args> {
+
+      public void read(TProtocol iprot, logWarning_args struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // MESSAGE
+              if (schemeField.type == TType.STRING) {
+                struct.message = iprot.readString();
+                struct.setMessageIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_URI
+              if (schemeField.type == TType.STRING) {
+                struct.fileUri = iprot.readString();
+                struct.setFileUriIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LINE_NUMBER
+              if (schemeField.type == TType.I64) {
+                struct.lineNumber = iprot.readI64();
+                struct.setLineNumberIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // COLUMN_NUMBER
+              if (schemeField.type == TType.I64) {
+                struct.columnNumber = iprot.readI64();
+                struct.setColumnNumberIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, logWarning_args struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.message != null) {
+          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
+          oprot.writeString(struct.message);
+          oprot.writeFieldEnd();
+        }
+        if (struct.fileUri != null) {
+          oprot.writeFieldBegin(FILE_URI_FIELD_DESC);
+          oprot.writeString(struct.fileUri);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(LINE_NUMBER_FIELD_DESC);
+        oprot.writeI64(struct.lineNumber);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(COLUMN_NUMBER_FIELD_DESC);
+        oprot.writeI64(struct.columnNumber);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class logWarning_argsTupleSchemeFactory implements SchemeFactory {
+      public logWarning_argsTupleScheme getScheme() {
+        return new logWarning_argsTupleScheme();
+      }
+    }
+
+    private static class logWarning_argsTupleScheme extends TupleScheme<logWarning_args> {
+
+      @Override
+      public void write(TProtocol prot, logWarning_args struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetMessage()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileUri()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLineNumber()) {
+          optionals.set(2);
+        }
+        if (struct.isSetColumnNumber()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetMessage()) {
+          oprot.writeString(struct.message);
+        }
+        if (struct.isSetFileUri()) {
+          oprot.writeString(struct.fileUri);
+        }
+        if (struct.isSetLineNumber()) {
+          oprot.writeI64(struct.lineNumber);
+        }
+        if (struct.isSetColumnNumber()) {
+          oprot.writeI64(struct.columnNumber);
+        }
+      }
+
+      @Override
+      public void read(TProtocol prot, logWarning_args struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.message = iprot.readString();
+          struct.setMessageIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileUri = iprot.readString();
+          struct.setFileUriIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.lineNumber = iprot.readI64();
+          struct.setLineNumberIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.columnNumber = iprot.readI64();
+          struct.setColumnNumberIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class logWarning_result implements TBase<logWarning_result, logWarning_result._Fields>, Serializable, Cloneable, Comparable<logWarning_result>   {
+    private static final TStruct STRUCT_DESC = new TStruct("logWarning_result");
+
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logWarning_resultStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logWarning_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(logWarning_result.class, metaDataMap);
+    }
+
+    public logWarning_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public logWarning_result(logWarning_result other) {
+    }
+
+    public logWarning_result deepCopy() {
+      return new logWarning_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof logWarning_result)
+        return this.equals((logWarning_result)that);
+      return false;
+    }
+
+    public boolean equals(logWarning_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(logWarning_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("logWarning_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class logWarning_resultStandardSchemeFactory implements SchemeFactory {
+      public logWarning_resultStandardScheme getScheme() {
+        return new logWarning_resultStandardScheme();
+      }
+    }
+
+    private static class logWarning_resultStandardScheme extends StandardScheme<logWarning_result> {
+
+      public void read(TProtocol iprot, logWarning_result struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, logWarning_result struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class logWarning_resultTupleSchemeFactory implements SchemeFactory {
+      public logWarning_resultTupleScheme getScheme() {
+        return new logWarning_resultTupleScheme();
+      }
+    }
+
+    private static class logWarning_resultTupleScheme extends TupleScheme<logWarning_result> {
+
+      @Override
+      public void write(TProtocol prot, logWarning_result struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(TProtocol prot, logWarning_result struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class fileWrote_args implements TBase<fileWrote_args, fileWrote_args._Fields>, Serializable, Cloneable, Comparable<fileWrote_args>   {
+    private static final TStruct STRUCT_DESC = new TStruct("fileWrote_args");
+
+    private static final TField FILE_PATH_FIELD_DESC = new TField("filePath", TType.STRING, (short)1);
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new fileWrote_argsStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new fileWrote_argsTupleSchemeFactory();
+
+    public @Nullable String filePath; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      FILE_PATH((short)1, "filePath");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_PATH
+            return FILE_PATH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_PATH, new FieldMetaData("filePath", TFieldRequirementType.DEFAULT,
+          new FieldValueMetaData(TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(fileWrote_args.class, metaDataMap);
+    }
+
+    public fileWrote_args() {
+    }
+
+    public fileWrote_args(
+      String filePath)
+    {
+      this();
+      this.filePath = filePath;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fileWrote_args(fileWrote_args other) {
+      if (other.isSetFilePath()) {
+        this.filePath = other.filePath;
+      }
+    }
+
+    public fileWrote_args deepCopy() {
+      return new fileWrote_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filePath = null;
+    }
+
+    @Nullable
+    public String getFilePath() {
+      return this.filePath;
+    }
+
+    public fileWrote_args setFilePath(@Nullable String filePath) {
+      this.filePath = filePath;
+      return this;
+    }
+
+    public void unsetFilePath() {
+      this.filePath = null;
+    }
+
+    /** Returns true if field filePath is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilePath() {
+      return this.filePath != null;
+    }
+
+    public void setFilePathIsSet(boolean value) {
+      if (!value) {
+        this.filePath = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      case FILE_PATH:
+        if (value == null) {
+          unsetFilePath();
+        } else {
+          setFilePath((String)value);
+        }
+        break;
+
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_PATH:
+        return getFilePath();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_PATH:
+        return isSetFilePath();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof fileWrote_args)
+        return this.equals((fileWrote_args)that);
+      return false;
+    }
+
+    public boolean equals(fileWrote_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_filePath = true && this.isSetFilePath();
+      boolean that_present_filePath = true && that.isSetFilePath();
+      if (this_present_filePath || that_present_filePath) {
+        if (!(this_present_filePath && that_present_filePath))
+          return false;
+        if (!this.filePath.equals(that.filePath))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetFilePath()) ? 131071 : 524287);
+      if (isSetFilePath())
+        hashCode = hashCode * 8191 + filePath.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(fileWrote_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.compare(isSetFilePath(), other.isSetFilePath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilePath()) {
+        lastComparison = TBaseHelper.compareTo(this.filePath, other.filePath);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fileWrote_args(");
+      boolean first = true;
+
+      sb.append("filePath:");
+      if (this.filePath == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filePath);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class fileWrote_argsStandardSchemeFactory implements SchemeFactory {
+      public fileWrote_argsStandardScheme getScheme() {
+        return new fileWrote_argsStandardScheme();
+      }
+    }
+
+    private static class fileWrote_argsStandardScheme extends StandardScheme<fileWrote_args> {
+
+      public void read(TProtocol iprot, fileWrote_args struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_PATH
+              if (schemeField.type == TType.STRING) {
+                struct.filePath = iprot.readString();
+                struct.setFilePathIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, fileWrote_args struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filePath != null) {
+          oprot.writeFieldBegin(FILE_PATH_FIELD_DESC);
+          oprot.writeString(struct.filePath);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fileWrote_argsTupleSchemeFactory implements SchemeFactory {
+      public fileWrote_argsTupleScheme getScheme() {
+        return new fileWrote_argsTupleScheme();
+      }
+    }
+
+    private static class fileWrote_argsTupleScheme extends TupleScheme<fileWrote_args> {
+
+      @Override
+      public void write(TProtocol prot, fileWrote_args struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilePath()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFilePath()) {
+          oprot.writeString(struct.filePath);
+        }
+      }
+
+      @Override
+      public void read(TProtocol prot, fileWrote_args struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.filePath = iprot.readString();
+          struct.setFilePathIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class fileWrote_result implements TBase<fileWrote_result, fileWrote_result._Fields>, Serializable, Cloneable, Comparable<fileWrote_result>   {
+    private static final TStruct STRUCT_DESC = new TStruct("fileWrote_result");
+
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new fileWrote_resultStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new fileWrote_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(fileWrote_result.class, metaDataMap);
+    }
+
+    public fileWrote_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public fileWrote_result(fileWrote_result other) {
+    }
+
+    public fileWrote_result deepCopy() {
+      return new fileWrote_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof fileWrote_result)
+        return this.equals((fileWrote_result)that);
+      return false;
+    }
+
+    public boolean equals(fileWrote_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(fileWrote_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("fileWrote_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class fileWrote_resultStandardSchemeFactory implements SchemeFactory {
+      public fileWrote_resultStandardScheme getScheme() {
+        return new fileWrote_resultStandardScheme();
+      }
+    }
+
+    private static class fileWrote_resultStandardScheme extends StandardScheme<fileWrote_result> {
+
+      public void read(TProtocol iprot, fileWrote_result struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, fileWrote_result struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class fileWrote_resultTupleSchemeFactory implements SchemeFactory {
+      public fileWrote_resultTupleScheme getScheme() {
+        return new fileWrote_resultTupleScheme();
+      }
+    }
+
+    private static class fileWrote_resultTupleScheme extends TupleScheme<fileWrote_result> {
+
+      @Override
+      public void write(TProtocol prot, fileWrote_result struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(TProtocol prot, fileWrote_result struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+
+  public static class logMessages_args implements TBase<logMessages_args, logMessages_args._Fields>, Serializable, Cloneable, Comparable<logMessages_args>   {
+    private static final TStruct STRUCT_DESC = new TStruct("logMessages_args");
+
+    private static final TField MESSAGES_FIELD_DESC = new TField("messages", TType.LIST, (short)1);
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logMessages_argsStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logMessages_argsTupleSchemeFactory();
+
+    public @Nullable List<CompilerMessage> messages; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      MESSAGES((short)1, "messages");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // MESSAGES
+            return MESSAGES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.MESSAGES, new FieldMetaData("messages", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new StructMetaData(TType.STRUCT, CompilerMessage.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(logMessages_args.class, metaDataMap);
+    }
+
+    public logMessages_args() {
+    }
+
+    public logMessages_args(
+      List<CompilerMessage> messages)
+    {
+      this();
+      this.messages = messages;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public logMessages_args(logMessages_args other) {
+      if (other.isSetMessages()) {
+        List<CompilerMessage> __this__messages = new ArrayList<CompilerMessage>(other.messages.size());
+        for (CompilerMessage other_element : other.messages) {
+          __this__messages.add(new CompilerMessage(other_element));
+        }
+        this.messages = __this__messages;
+      }
+    }
+
+    public logMessages_args deepCopy() {
+      return new logMessages_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.messages = null;
+    }
+
+    public int getMessagesSize() {
+      return (this.messages == null) ? 0 : this.messages.size();
+    }
+
+    @Nullable
+    public java.util.Iterator<CompilerMessage> getMessagesIterator() {
+      return (this.messages == null) ? null : this.messages.iterator();
+    }
+
+    public void addToMessages(CompilerMessage elem) {
+      if (this.messages == null) {
+        this.messages = new ArrayList<CompilerMessage>();
+      }
+      this.messages.add(elem);
+    }
+
+    @Nullable
+    public List<CompilerMessage> getMessages() {
+      return this.messages;
+    }
+
+    public logMessages_args setMessages(@Nullable List<CompilerMessage> messages) {
+      this.messages = messages;
+      return this;
+    }
+
+    public void unsetMessages() {
+      this.messages = null;
+    }
+
+    /** Returns true if field messages is set (has been assigned a value) and false otherwise */
+    public boolean isSetMessages() {
+      return this.messages != null;
+    }
+
+    public void setMessagesIsSet(boolean value) {
+      if (!value) {
+        this.messages = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      case MESSAGES:
+        if (value == null) {
+          unsetMessages();
+        } else {
+          setMessages((List<CompilerMessage>)value);
+        }
+        break;
+
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case MESSAGES:
+        return getMessages();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case MESSAGES:
+        return isSetMessages();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof logMessages_args)
+        return this.equals((logMessages_args)that);
+      return false;
+    }
+
+    public boolean equals(logMessages_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_messages = true && this.isSetMessages();
+      boolean that_present_messages = true && that.isSetMessages();
+      if (this_present_messages || that_present_messages) {
+        if (!(this_present_messages && that_present_messages))
+          return false;
+        if (!this.messages.equals(that.messages))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetMessages()) ? 131071 : 524287);
+      if (isSetMessages())
+        hashCode = hashCode * 8191 + messages.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(logMessages_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.compare(isSetMessages(), other.isSetMessages());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetMessages()) {
+        lastComparison = TBaseHelper.compareTo(this.messages, other.messages);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("logMessages_args(");
+      boolean first = true;
+
+      sb.append("messages:");
+      if (this.messages == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.messages);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class logMessages_argsStandardSchemeFactory implements SchemeFactory {
+      public logMessages_argsStandardScheme getScheme() {
+        return new logMessages_argsStandardScheme();
+      }
+    }
+
+    private static class logMessages_argsStandardScheme extends StandardScheme<logMessages_args> {
+
+      public void read(TProtocol iprot, logMessages_args struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // MESSAGES
+              if (schemeField.type == TType.LIST) {
+                {
+                  TList _list0 = iprot.readListBegin();
+                  struct.messages = new ArrayList<CompilerMessage>(_list0.size);
+                  @Nullable CompilerMessage _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = new CompilerMessage();
+                    _elem1.read(iprot);
+                    struct.messages.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setMessagesIsSet(true);
+              } else { 
+                TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, logMessages_args struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.messages != null) {
+          oprot.writeFieldBegin(MESSAGES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new TList(TType.STRUCT, struct.messages.size()));
+            for (CompilerMessage _iter3 : struct.messages)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class logMessages_argsTupleSchemeFactory implements SchemeFactory {
+      public logMessages_argsTupleScheme getScheme() {
+        return new logMessages_argsTupleScheme();
+      }
+    }
+
+    private static class logMessages_argsTupleScheme extends TupleScheme<logMessages_args> {
+
+      @Override
+      public void write(TProtocol prot, logMessages_args struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetMessages()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetMessages()) {
+          {
+            oprot.writeI32(struct.messages.size());
+            for (CompilerMessage _iter4 : struct.messages)
+            {
+              _iter4.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(TProtocol prot, logMessages_args struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            TList _list5 = iprot.readListBegin(TType.STRUCT);
+            struct.messages = new ArrayList<CompilerMessage>(_list5.size);
+            @Nullable CompilerMessage _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = new CompilerMessage();
+              _elem6.read(iprot);
+              struct.messages.add(_elem6);
+            }
+          }
+          struct.setMessagesIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class logMessages_result implements TBase<logMessages_result, logMessages_result._Fields>, Serializable, Cloneable, Comparable<logMessages_result>   {
+    private static final TStruct STRUCT_DESC = new TStruct("logMessages_result");
+
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logMessages_resultStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logMessages_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(logMessages_result.class, metaDataMap);
+    }
+
+    public logMessages_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public logMessages_result(logMessages_result other) {
+    }
+
+    public logMessages_result deepCopy() {
+      return new logMessages_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof logMessages_result)
+        return this.equals((logMessages_result)that);
+      return false;
+    }
+
+    public boolean equals(logMessages_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(logMessages_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("logMessages_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class logMessages_resultStandardSchemeFactory implements SchemeFactory {
+      public logMessages_resultStandardScheme getScheme() {
+        return new logMessages_resultStandardScheme();
+      }
+    }
+
+    private static class logMessages_resultStandardScheme extends StandardScheme<logMessages_result> {
+
+      public void read(TProtocol iprot, logMessages_result struct) throws TException {
+        TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == TType.STOP) {
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(TProtocol oprot, logMessages_result struct) throws TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class logMessages_resultTupleSchemeFactory implements SchemeFactory {
+      public logMessages_resultTupleScheme getScheme() {
+        return new logMessages_resultTupleScheme();
+      }
+    }
+
+    private static class logMessages_resultTupleScheme extends TupleScheme<logMessages_result> {
+
+      @Override
+      public void write(TProtocol prot, logMessages_result struct) throws TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(TProtocol prot, logMessages_result struct) throws TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends IScheme> S scheme(TProtocol proto) {
+      return (StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class filesWrote_args implements TBase<filesWrote_args, filesWrote_args._Fields>, Serializable, Cloneable, Comparable<filesWrote_args>   {
+    private static final TStruct STRUCT_DESC = new TStruct("filesWrote_args");
+
+    private static final TField FILE_PATHS_FIELD_DESC = new TField("filePaths", TType.LIST, (short)1);
+
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new filesWrote_argsStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new filesWrote_argsTupleSchemeFactory();
+
+    public @Nullable List<String> filePaths; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements TFieldIdEnum {
+      FILE_PATHS((short)1, "filePaths");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_PATHS
+            return FILE_PATHS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @Nullable
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_PATHS, new FieldMetaData("filePaths", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new FieldValueMetaData(TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      FieldMetaData.addStructMetaDataMap(filesWrote_args.class, metaDataMap);
+    }
+
+    public filesWrote_args() {
+    }
+
+    public filesWrote_args(
+      List<String> filePaths)
+    {
+      this();
+      this.filePaths = filePaths;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public filesWrote_args(filesWrote_args other) {
+      if (other.isSetFilePaths()) {
+        List<String> __this__filePaths = new ArrayList<String>(other.filePaths);
+        this.filePaths = __this__filePaths;
+      }
+    }
+
+    public filesWrote_args deepCopy() {
+      return new filesWrote_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filePaths = null;
+    }
+
+    public int getFilePathsSize() {
+      return (this.filePaths == null) ? 0 : this.filePaths.size();
+    }
+
+    @Nullable
+    public java.util.Iterator<String> getFilePathsIterator() {
+      return (this.filePaths == null) ? null : this.filePaths.iterator();
+    }
+
+    public void addToFilePaths(String elem) {
+      if (this.filePaths == null) {
+        this.filePaths = new ArrayList<String>();
+      }
+      this.filePaths.add(elem);
+    }
+
+    @Nullable
+    public List<String> getFilePaths() {
+      return this.filePaths;
+    }
+
+    public filesWrote_args setFilePaths(@Nullable List<String> filePaths) {
+      this.filePaths = filePaths;
+      return this;
+    }
+
+    public void unsetFilePaths() {
+      this.filePaths = null;
+    }
+
+    /** Returns true if field filePaths is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilePaths() {
+      return this.filePaths != null;
+    }
+
+    public void setFilePathsIsSet(boolean value) {
+      if (!value) {
+        this.filePaths = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @Nullable Object value) {
+      switch (field) {
+      case FILE_PATHS:
+        if (value == null) {
+          unsetFilePaths();
+        } else {
+          setFilePaths((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    @Nullable
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_PATHS:
+        return getFilePaths();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_PATHS:
+        return isSetFilePaths();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that instanceof filesWrote_args)
+        return this.equals((filesWrote_args)that);
+      return false;
+    }
+
+    public boolean equals(filesWrote_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_filePaths = true && this.isSetFilePaths();
+      boolean that_present_filePaths = true && that.isSetFilePaths();
+      if (this_present_filePaths || that_present_filePaths) {
+        if (!(this_present_filePaths && that_present_filePaths))
+          return false;
+        if (!this.filePaths.equals(that.filePaths))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetFilePaths()) ? 131071 : 524287);
+      if (isSetFilePaths())
+        hashCode = hashCode * 8191 + filePaths.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(filesWrote_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.compare(isSetFilePaths(), other.isSetFilePaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilePaths()) {
+        lastComparison = TBaseHelper.compareTo(this.filePaths, other.filePaths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(TProtocol iprot) throws TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(TProtocol oprot) throws TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("filesWrote_args(");
+      boolean first = true;
+
+      sb.append("filePaths:");
+      if (this.filePaths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filePaths);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      try {
+        write(new TCompactProtocol(new TIOStreamTransport(out)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      try {
+        read(new TCompactProtocol(new TIOStreamTransport(in)));
+      } catch (TException te) {
+        throw new IOException(te);
+      }
+    }
+
+    private static class filesWrote_argsStandardSchemeFactory implements SchemeFactory {
+      public filesWrote_argsStandardScheme getScheme() {
+        return new filesWrote_argsStandardScheme();
       }
     }
 
-    private static class logWarning_argsStandardScheme extends StandardScheme<logWarning_args> {
+    private static class filesWrote_argsStandardScheme extends StandardScheme<filesWrote_args> {
 
-      public void read(TProtocol iprot, logWarning_args struct) throws TException {
+      public void read(TProtocol iprot, filesWrote_args struct) throws TException {
         TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3128,34 +5553,20 @@ public class JavaCompilerInterface {
             break;
           }
           switch (schemeField.id) {
-            case 1: // MESSAGE
-              if (schemeField.type == TType.STRING) {
-                struct.message = iprot.readString();
-                struct.setMessageIsSet(true);
-              } else { 
-                TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // FILE_URI
-              if (schemeField.type == TType.STRING) {
-                struct.fileUri = iprot.readString();
-                struct.setFileUriIsSet(true);
-              } else { 
-                TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // LINE_NUMBER
-              if (schemeField.type == TType.I64) {
-                struct.lineNumber = iprot.readI64();
-                struct.setLineNumberIsSet(true);
-              } else { 
-                TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // COLUMN_NUMBER
-              if (schemeField.type == TType.I64) {
-                struct.columnNumber = iprot.readI64();
-                struct.setColumnNumberIsSet(true);
+            case 1: // FILE_PATHS
+              if (schemeField.type == TType.LIST) {
+                {
+                  TList _list8 = iprot.readListBegin();
+                  struct.filePaths = new ArrayList<String>(_list8.size);
+                  @Nullable String _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = iprot.readString();
+                    struct.filePaths.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setFilePathsIsSet(true);
               } else { 
                 TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3171,90 +5582,71 @@ public class JavaCompilerInterface {
         struct.validate();
       }
 
-      public void write(TProtocol oprot, logWarning_args struct) throws TException {
+      public void write(TProtocol oprot, filesWrote_args struct) throws TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.message != null) {
-          oprot.writeFieldBegin(MESSAGE_FIELD_DESC);
-          oprot.writeString(struct.message);
-          oprot.writeFieldEnd();
-        }
-        if (struct.fileUri != null) {
-          oprot.writeFieldBegin(FILE_URI_FIELD_DESC);
-          oprot.writeString(struct.fileUri);
+        if (struct.filePaths != null) {
+          oprot.writeFieldBegin(FILE_PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new TList(TType.STRING, struct.filePaths.size()));
+            for (String _iter11 : struct.filePaths)
+            {
+              oprot.writeString(_iter11);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(LINE_NUMBER_FIELD_DESC);
-        oprot.writeI64(struct.lineNumber);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(COLUMN_NUMBER_FIELD_DESC);
-        oprot.writeI64(struct.columnNumber);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class logWarning_argsTupleSchemeFactory implements SchemeFactory {
-      public logWarning_argsTupleScheme getScheme() {
-        return new logWarning_argsTupleScheme();
+    private static class filesWrote_argsTupleSchemeFactory implements SchemeFactory {
+      public filesWrote_argsTupleScheme getScheme() {
+        return new filesWrote_argsTupleScheme();
       }
     }
 
-    private static class logWarning_argsTupleScheme extends TupleScheme<logWarning_args> {
+    private static class filesWrote_argsTupleScheme extends TupleScheme<filesWrote_args> {
 
       @Override
-      public void write(TProtocol prot, logWarning_args struct) throws TException {
+      public void write(TProtocol prot, filesWrote_args struct) throws TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetMessage()) {
+        if (struct.isSetFilePaths()) {
           optionals.set(0);
         }
-        if (struct.isSetFileUri()) {
-          optionals.set(1);
-        }
-        if (struct.isSetLineNumber()) {
-          optionals.set(2);
-        }
-        if (struct.isSetColumnNumber()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetMessage()) {
-          oprot.writeString(struct.message);
-        }
-        if (struct.isSetFileUri()) {
-          oprot.writeString(struct.fileUri);
-        }
-        if (struct.isSetLineNumber()) {
-          oprot.writeI64(struct.lineNumber);
-        }
-        if (struct.isSetColumnNumber()) {
-          oprot.writeI64(struct.columnNumber);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFilePaths()) {
+          {
+            oprot.writeI32(struct.filePaths.size());
+            for (String _iter12 : struct.filePaths)
+            {
+              oprot.writeString(_iter12);
+            }
+          }
         }
       }
 
       @Override
-      public void read(TProtocol prot, logWarning_args struct) throws TException {
+      public void read(TProtocol prot, filesWrote_args struct) throws TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.message = iprot.readString();
-          struct.setMessageIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.fileUri = iprot.readString();
-          struct.setFileUriIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.lineNumber = iprot.readI64();
-          struct.setLineNumberIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.columnNumber = iprot.readI64();
-          struct.setColumnNumberIsSet(true);
+          {
+            TList _list13 = iprot.readListBegin(TType.STRING);
+            struct.filePaths = new ArrayList<String>(_list13.size);
+            @Nullable String _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = iprot.readString();
+              struct.filePaths.add(_elem14);
+            }
+          }
+          struct.setFilePathsIsSet(true);
         }
       }
     }
@@ -3264,12 +5656,12 @@ public class JavaCompilerInterface {
     }
   }
 
-  public static class logWarning_result implements TBase<logWarning_result, logWarning_result._Fields>, Serializable, Cloneable, Comparable<logWarning_result>   {
-    private static final TStruct STRUCT_DESC = new TStruct("logWarning_result");
+  public static class filesWrote_result implements TBase<filesWrote_result, filesWrote_result._Fields>, Serializable, Cloneable, Comparable<filesWrote_result>   {
+    private static final TStruct STRUCT_DESC = new TStruct("filesWrote_result");
 
 
-    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new logWarning_resultStandardSchemeFactory();
-    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new logWarning_resultTupleSchemeFactory();
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new filesWrote_resultStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new filesWrote_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3329,24 +5721,25 @@ public class JavaCompilerInterface {
         return _fieldName;
       }
     }
+
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(logWarning_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(filesWrote_result.class, metaDataMap);
     }
 
-    public logWarning_result() {
+    public filesWrote_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public logWarning_result(logWarning_result other) {
+    public filesWrote_result(filesWrote_result other) {
     }
 
-    public logWarning_result deepCopy() {
-      return new logWarning_result(this);
+    public filesWrote_result deepCopy() {
+      return new filesWrote_result(this);
     }
 
     @Override
@@ -3378,12 +5771,12 @@ public class JavaCompilerInterface {
 
     @Override
     public boolean equals(Object that) {
-      if (that instanceof logWarning_result)
-        return this.equals((logWarning_result)that);
+      if (that instanceof filesWrote_result)
+        return this.equals((filesWrote_result)that);
       return false;
     }
 
-    public boolean equals(logWarning_result that) {
+    public boolean equals(filesWrote_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3400,7 +5793,7 @@ public class JavaCompilerInterface {
     }
 
     @Override
-    public int compareTo(logWarning_result other) {
+    public int compareTo(filesWrote_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3421,11 +5814,11 @@ public class JavaCompilerInterface {
 
     public void write(TProtocol oprot) throws TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("logWarning_result(");
+      StringBuilder sb = new StringBuilder("filesWrote_result(");
       boolean first = true;
 
       sb.append(")");
@@ -3453,15 +5846,15 @@ public class JavaCompilerInterface {
       }
     }
 
-    private static class logWarning_resultStandardSchemeFactory implements SchemeFactory {
-      public logWarning_resultStandardScheme getScheme() {
-        return new logWarning_resultStandardScheme();
+    private static class filesWrote_resultStandardSchemeFactory implements SchemeFactory {
+      public filesWrote_resultStandardScheme getScheme() {
+        return new filesWrote_resultStandardScheme();
       }
     }
 
-    private static class logWarning_resultStandardScheme extends StandardScheme<logWarning_result> {
+    private static class filesWrote_resultStandardScheme extends StandardScheme<filesWrote_result> {
 
-      public void read(TProtocol iprot, logWarning_result struct) throws TException {
+      public void read(TProtocol iprot, filesWrote_result struct) throws TException {
         TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3482,7 +5875,7 @@ public class JavaCompilerInterface {
         struct.validate();
       }
 
-      public void write(TProtocol oprot, logWarning_result struct) throws TException {
+      public void write(TProtocol oprot, filesWrote_result struct) throws TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3492,21 +5885,21 @@ public class JavaCompilerInterface {
 
     }
 
-    private static class logWarning_resultTupleSchemeFactory implements SchemeFactory {
-      public logWarning_resultTupleScheme getScheme() {
-        return new logWarning_resultTupleScheme();
+    private static class filesWrote_resultTupleSchemeFactory implements SchemeFactory {
+      public filesWrote_resultTupleScheme getScheme() {
+        return new filesWrote_resultTupleScheme();
       }
     }
 
-    private static class logWarning_resultTupleScheme extends TupleScheme<logWarning_result> {
+    private static class filesWrote_resultTupleScheme extends TupleScheme<filesWrote_result> {
 
       @Override
-      public void write(TProtocol prot, logWarning_result struct) throws TException {
+      public void write(TProtocol prot, filesWrote_result struct) throws TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(TProtocol prot, logWarning_result struct) throws TException {
+      public void read(TProtocol prot, filesWrote_result struct) throws TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
@@ -3516,19 +5909,20 @@ public class JavaCompilerInterface {
     }
   }
 
-  public static class fileWrote_args implements TBase<fileWrote_args, fileWrote_args._Fields>, Serializable, Cloneable, Comparable<fileWrote_args>   {
-    private static final TStruct STRUCT_DESC = new TStruct("fileWrote_args");
 
-    private static final TField FILE_PATH_FIELD_DESC = new TField("filePath", TType.STRING, (short)1);
+  public static class classesWrote_args implements TBase<classesWrote_args, classesWrote_args._Fields>, Serializable, Cloneable, Comparable<classesWrote_args>   {
+    private static final TStruct STRUCT_DESC = new TStruct("classesWrote_args");
 
-    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new fileWrote_argsStandardSchemeFactory();
-    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new fileWrote_argsTupleSchemeFactory();
+    private static final TField CLASSES_FIELD_DESC = new TField("classes", TType.LIST, (short)1);
 
-    public @Nullable String filePath; // required
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new classesWrote_argsStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new classesWrote_argsTupleSchemeFactory();
+
+    public @Nullable List<CompiledClass> classes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements TFieldIdEnum {
-      FILE_PATH((short)1, "filePath");
+      CLASSES((short)1, "classes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3544,8 +5938,8 @@ public class JavaCompilerInterface {
       @Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_PATH
-            return FILE_PATH;
+          case 1: // CLASSES
+            return CLASSES;
           default:
             return null;
         }
@@ -3590,72 +5984,93 @@ public class JavaCompilerInterface {
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_PATH, new FieldMetaData("filePath", TFieldRequirementType.DEFAULT,
-          new FieldValueMetaData(TType.STRING)));
+      tmpMap.put(_Fields.CLASSES, new FieldMetaData("classes", TFieldRequirementType.DEFAULT, 
+          new ListMetaData(TType.LIST, 
+              new StructMetaData(TType.STRUCT, CompiledClass.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(fileWrote_args.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(classesWrote_args.class, metaDataMap);
     }
 
-    public fileWrote_args() {
+    public classesWrote_args() {
     }
 
-    public fileWrote_args(
-      String filePath)
+    public classesWrote_args(
+      List<CompiledClass> classes)
     {
       this();
-      this.filePath = filePath;
+      this.classes = classes;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public fileWrote_args(fileWrote_args other) {
-      if (other.isSetFilePath()) {
-        this.filePath = other.filePath;
+    public classesWrote_args(classesWrote_args other) {
+      if (other.isSetClasses()) {
+        List<CompiledClass> __this__classes = new ArrayList<CompiledClass>(other.classes.size());
+        for (CompiledClass other_element : other.classes) {
+          __this__classes.add(new CompiledClass(other_element));
+        }
+        this.classes = __this__classes;
       }
     }
 
-    public fileWrote_args deepCopy() {
-      return new fileWrote_args(this);
+    public classesWrote_args deepCopy() {
+      return new classesWrote_args(this);
     }
 
     @Override
     public void clear() {
-      this.filePath = null;
+      this.classes = null;
+    }
+
+    public int getClassesSize() {
+      return (this.classes == null) ? 0 : this.classes.size();
     }
 
     @Nullable
-    public String getFilePath() {
-      return this.filePath;
+    public java.util.Iterator<CompiledClass> getClassesIterator() {
+      return (this.classes == null) ? null : this.classes.iterator();
     }
 
-    public fileWrote_args setFilePath(@Nullable String filePath) {
-      this.filePath = filePath;
+    public void addToClasses(CompiledClass elem) {
+      if (this.classes == null) {
+        this.classes = new ArrayList<CompiledClass>();
+      }
+      this.classes.add(elem);
+    }
+
+    @Nullable
+    public List<CompiledClass> getClasses() {
+      return this.classes;
+    }
+
+    public classesWrote_args setClasses(@Nullable List<CompiledClass> classes) {
+      this.classes = classes;
       return this;
     }
 
-    public void unsetFilePath() {
-      this.filePath = null;
+    public void unsetClasses() {
+      this.classes = null;
     }
 
-    /** Returns true if field filePath is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilePath() {
-      return this.filePath != null;
+    /** Returns true if field classes is set (has been assigned a value) and false otherwise */
+    public boolean isSetClasses() {
+      return this.classes != null;
     }
 
-    public void setFilePathIsSet(boolean value) {
+    public void setClassesIsSet(boolean value) {
       if (!value) {
-        this.filePath = null;
+        this.classes = null;
       }
     }
 
     public void setFieldValue(_Fields field, @Nullable Object value) {
       switch (field) {
-      case FILE_PATH:
+      case CLASSES:
         if (value == null) {
-          unsetFilePath();
+          unsetClasses();
         } else {
-          setFilePath((String)value);
+          setClasses((List<CompiledClass>)value);
         }
         break;
 
@@ -3665,8 +6080,8 @@ public class JavaCompilerInterface {
     @Nullable
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_PATH:
-        return getFilePath();
+      case CLASSES:
+        return getClasses();
 
       }
       throw new IllegalStateException();
@@ -3679,31 +6094,31 @@ public class JavaCompilerInterface {
       }
 
       switch (field) {
-      case FILE_PATH:
-        return isSetFilePath();
+      case CLASSES:
+        return isSetClasses();
       }
       throw new IllegalStateException();
     }
 
     @Override
     public boolean equals(Object that) {
-      if (that instanceof fileWrote_args)
-        return this.equals((fileWrote_args)that);
+      if (that instanceof classesWrote_args)
+        return this.equals((classesWrote_args)that);
       return false;
     }
 
-    public boolean equals(fileWrote_args that) {
+    public boolean equals(classesWrote_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_filePath = true && this.isSetFilePath();
-      boolean that_present_filePath = true && that.isSetFilePath();
-      if (this_present_filePath || that_present_filePath) {
-        if (!(this_present_filePath && that_present_filePath))
+      boolean this_present_classes = true && this.isSetClasses();
+      boolean that_present_classes = true && that.isSetClasses();
+      if (this_present_classes || that_present_classes) {
+        if (!(this_present_classes && that_present_classes))
           return false;
-        if (!this.filePath.equals(that.filePath))
+        if (!this.classes.equals(that.classes))
           return false;
       }
 
@@ -3714,27 +6129,27 @@ public class JavaCompilerInterface {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetFilePath()) ? 131071 : 524287);
-      if (isSetFilePath())
-        hashCode = hashCode * 8191 + filePath.hashCode();
+      hashCode = hashCode * 8191 + ((isSetClasses()) ? 131071 : 524287);
+      if (isSetClasses())
+        hashCode = hashCode * 8191 + classes.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(fileWrote_args other) {
+    public int compareTo(classesWrote_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.compare(isSetFilePath(), other.isSetFilePath());
+      lastComparison = Boolean.compare(isSetClasses(), other.isSetClasses());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFilePath()) {
-        lastComparison = TBaseHelper.compareTo(this.filePath, other.filePath);
+      if (isSetClasses()) {
+        lastComparison = TBaseHelper.compareTo(this.classes, other.classes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3757,14 +6172,14 @@ public class JavaCompilerInterface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("fileWrote_args(");
+      StringBuilder sb = new StringBuilder("classesWrote_args(");
       boolean first = true;
 
-      sb.append("filePath:");
-      if (this.filePath == null) {
+      sb.append("classes:");
+      if (this.classes == null) {
         sb.append("null");
       } else {
-        sb.append(this.filePath);
+        sb.append(this.classes);
       }
       first = false;
       sb.append(")");
@@ -3792,15 +6207,15 @@ public class JavaCompilerInterface {
       }
     }
 
-    private static class fileWrote_argsStandardSchemeFactory implements SchemeFactory {
-      public fileWrote_argsStandardScheme getScheme() {
-        return new fileWrote_argsStandardScheme();
+    private static class classesWrote_argsStandardSchemeFactory implements SchemeFactory {
+      public classesWrote_argsStandardScheme getScheme() {
+        return new classesWrote_argsStandardScheme();
       }
     }
 
-    private static class fileWrote_argsStandardScheme extends StandardScheme<fileWrote_args> {
+    private static class classesWrote_argsStandardScheme extends StandardScheme<classesWrote_args> {
 
-      public void read(TProtocol iprot, fileWrote_args struct) throws TException {
+      public void read(TProtocol iprot, classesWrote_args struct) throws TException {
         TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3810,10 +6225,21 @@ public class JavaCompilerInterface {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_PATH
-              if (schemeField.type == TType.STRING) {
-                struct.filePath = iprot.readString();
-                struct.setFilePathIsSet(true);
+            case 1: // CLASSES
+              if (schemeField.type == TType.LIST) {
+                {
+                  TList _list0 = iprot.readListBegin();
+                  struct.classes = new ArrayList<CompiledClass>(_list0.size);
+                  @Nullable CompiledClass _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = new CompiledClass();
+                    _elem1.read(iprot);
+                    struct.classes.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setClassesIsSet(true);
               } else { 
                 TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3829,13 +6255,20 @@ public class JavaCompilerInterface {
         struct.validate();
       }
 
-      public void write(TProtocol oprot, fileWrote_args struct) throws TException {
+      public void write(TProtocol oprot, classesWrote_args struct) throws TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filePath != null) {
-          oprot.writeFieldBegin(FILE_PATH_FIELD_DESC);
-          oprot.writeString(struct.filePath);
+        if (struct.classes != null) {
+          oprot.writeFieldBegin(CLASSES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new TList(TType.STRUCT, struct.classes.size()));
+            for (CompiledClass _iter3 : struct.classes)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3844,34 +6277,50 @@ public class JavaCompilerInterface {
 
     }
 
-    private static class fileWrote_argsTupleSchemeFactory implements SchemeFactory {
-      public fileWrote_argsTupleScheme getScheme() {
-        return new fileWrote_argsTupleScheme();
+    private static class classesWrote_argsTupleSchemeFactory implements SchemeFactory {
+      public classesWrote_argsTupleScheme getScheme() {
+        return new classesWrote_argsTupleScheme();
       }
     }
 
-    private static class fileWrote_argsTupleScheme extends TupleScheme<fileWrote_args> {
+    private static class classesWrote_argsTupleScheme extends TupleScheme<classesWrote_args> {
 
       @Override
-      public void write(TProtocol prot, fileWrote_args struct) throws TException {
+      public void write(TProtocol prot, classesWrote_args struct) throws TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilePath()) {
+        if (struct.isSetClasses()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFilePath()) {
-          oprot.writeString(struct.filePath);
+        if (struct.isSetClasses()) {
+          {
+            oprot.writeI32(struct.classes.size());
+            for (CompiledClass _iter4 : struct.classes)
+            {
+              _iter4.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(TProtocol prot, fileWrote_args struct) throws TException {
+      public void read(TProtocol prot, classesWrote_args struct) throws TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.filePath = iprot.readString();
-          struct.setFilePathIsSet(true);
+          {
+            TList _list5 = iprot.readListBegin(TType.STRUCT);
+            struct.classes = new ArrayList<CompiledClass>(_list5.size);
+            @Nullable CompiledClass _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = new CompiledClass();
+              _elem6.read(iprot);
+              struct.classes.add(_elem6);
+            }
+          }
+          struct.setClassesIsSet(true);
         }
       }
     }
@@ -3881,12 +6330,12 @@ public class JavaCompilerInterface {
     }
   }
 
-  public static class fileWrote_result implements TBase<fileWrote_result, fileWrote_result._Fields>, Serializable, Cloneable, Comparable<fileWrote_result>   {
-    private static final TStruct STRUCT_DESC = new TStruct("fileWrote_result");
+  public static class classesWrote_result implements TBase<classesWrote_result, classesWrote_result._Fields>, Serializable, Cloneable, Comparable<classesWrote_result>   {
+    private static final TStruct STRUCT_DESC = new TStruct("classesWrote_result");
 
 
-    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new fileWrote_resultStandardSchemeFactory();
-    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new fileWrote_resultTupleSchemeFactory();
+    private static final SchemeFactory STANDARD_SCHEME_FACTORY = new classesWrote_resultStandardSchemeFactory();
+    private static final SchemeFactory TUPLE_SCHEME_FACTORY = new classesWrote_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3946,24 +6395,25 @@ public class JavaCompilerInterface {
         return _fieldName;
       }
     }
+
     public static final Map<_Fields, FieldMetaData> metaDataMap;
     static {
       Map<_Fields, FieldMetaData> tmpMap = new EnumMap<_Fields, FieldMetaData>(_Fields.class);
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      FieldMetaData.addStructMetaDataMap(fileWrote_result.class, metaDataMap);
+      FieldMetaData.addStructMetaDataMap(classesWrote_result.class, metaDataMap);
     }
 
-    public fileWrote_result() {
+    public classesWrote_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public fileWrote_result(fileWrote_result other) {
+    public classesWrote_result(classesWrote_result other) {
     }
 
-    public fileWrote_result deepCopy() {
-      return new fileWrote_result(this);
+    public classesWrote_result deepCopy() {
+      return new classesWrote_result(this);
     }
 
     @Override
@@ -3995,12 +6445,12 @@ public class JavaCompilerInterface {
 
     @Override
     public boolean equals(Object that) {
-      if (that instanceof fileWrote_result)
-        return this.equals((fileWrote_result)that);
+      if (that instanceof classesWrote_result)
+        return this.equals((classesWrote_result)that);
       return false;
     }
 
-    public boolean equals(fileWrote_result that) {
+    public boolean equals(classesWrote_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -4017,7 +6467,7 @@ public class JavaCompilerInterface {
     }
 
     @Override
-    public int compareTo(fileWrote_result other) {
+    public int compareTo(classesWrote_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4038,11 +6488,11 @@ public class JavaCompilerInterface {
 
     public void write(TProtocol oprot) throws TException {
       scheme(oprot).write(oprot, this);
-      }
+    }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("fileWrote_result(");
+      StringBuilder sb = new StringBuilder("classesWrote_result(");
       boolean first = true;
 
       sb.append(")");
@@ -4070,15 +6520,15 @@ public class JavaCompilerInterface {
       }
     }
 
-    private static class fileWrote_resultStandardSchemeFactory implements SchemeFactory {
-      public fileWrote_resultStandardScheme getScheme() {
-        return new fileWrote_resultStandardScheme();
+    private static class classesWrote_resultStandardSchemeFactory implements SchemeFactory {
+      public classesWrote_resultStandardScheme getScheme() {
+        return new classesWrote_resultStandardScheme();
       }
     }
 
-    private static class fileWrote_resultStandardScheme extends StandardScheme<fileWrote_result> {
+    private static class classesWrote_resultStandardScheme extends StandardScheme<classesWrote_result> {
 
-      public void read(TProtocol iprot, fileWrote_result struct) throws TException {
+      public void read(TProtocol iprot, classesWrote_result struct) throws TException {
         TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4099,7 +6549,7 @@ public class JavaCompilerInterface {
         struct.validate();
       }
 
-      public void write(TProtocol oprot, fileWrote_result struct) throws TException {
+      public void write(TProtocol oprot, classesWrote_result struct) throws TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4109,21 +6559,21 @@ public class JavaCompilerInterface {
 
     }
 
-    private static class fileWrote_resultTupleSchemeFactory implements SchemeFactory {
-      public fileWrote_resultTupleScheme getScheme() {
-        return new fileWrote_resultTupleScheme();
+    private static class classesWrote_resultTupleSchemeFactory implements SchemeFactory {
+      public classesWrote_resultTupleScheme getScheme() {
+        return new classesWrote_resultTupleScheme();
       }
     }
 
-    private static class fileWrote_resultTupleScheme extends TupleScheme<fileWrote_result> {
+    private static class classesWrote_resultTupleScheme extends TupleScheme<classesWrote_result> {
 
       @Override
-      public void write(TProtocol prot, fileWrote_result struct) throws TException {
+      public void write(TProtocol prot, classesWrote_result struct) throws TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
       }
 
       @Override
-      public void read(TProtocol prot, fileWrote_result struct) throws TException {
+      public void read(TProtocol prot, classesWrote_result struct) throws TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
       }
     }
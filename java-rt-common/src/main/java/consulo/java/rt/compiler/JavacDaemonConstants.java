@@ -0,0 +1,25 @@
+package consulo.java.rt.compiler;
+
+/**
+ * Protocol of the long-living compiler process started by {@code NewJavaRunner} in daemon mode.
+ * <p>
+ * The first line of the daemon stdin is the port of {@code JavaCompilerInterface} server, every next line is
+ * a path to the file with compiler arguments (one per line). After each compilation the daemon prints
+ * {@link #MSG_COMPILATION_FINISHED} followed by the exit code to the stdout.
+ */
+public interface JavacDaemonConstants
+{
+	public static final String DAEMON_PROPERTY = "consulo.javac.daemon";
+	public static final String IDLE_TIMEOUT_PROPERTY = "consulo.javac.daemon.idle.timeout";
+	/**
+	 * Milliseconds without compilations after which the daemon exits, unless {@link #IDLE_TIMEOUT_PROPERTY} is set
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 30 * 60 * 1000L;
+
+	public static final String MSG_COMPILATION_FINISHED = "__consulo_javac_finished:";
+	public static final String EXIT_COMMAND = "__exit";
+
+	public static final int EXIT_CODE_OK = 0;
+	public static final int EXIT_CODE_FAILED = 1;
+	public static final int EXIT_CODE_ERROR = 2;
+}
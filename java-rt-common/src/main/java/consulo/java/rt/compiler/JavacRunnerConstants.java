@@ -0,0 +1,13 @@
+package consulo.java.rt.compiler;
+
+/**
+ * Options of {@code NewJavaRunner} which are passed together with compiler arguments and are not forwarded to javac.
+ */
+public interface JavacRunnerConstants
+{
+	/**
+	 * Class files are not written to the output directory, their content is sent to the IDE with
+	 * {@code JavaCompilerInterface.classesWrote()}, and the IDE writes them after processing
+	 */
+	public static final String IN_MEMORY_OUTPUT_OPTION = "-Xconsulo-in-memory-output";
+}
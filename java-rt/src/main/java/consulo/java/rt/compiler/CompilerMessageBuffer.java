@@ -0,0 +1,226 @@
+package consulo.java.rt.compiler;
+
+import consulo.java.rt.common.compiler.CompiledClass;
+import consulo.java.rt.common.compiler.CompilerMessage;
+import consulo.java.rt.common.compiler.CompilerMessageKind;
+import consulo.java.rt.common.compiler.JavaCompilerInterface;
+import org.apache.thrift.TException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Collects compiler messages and written files and sends them to the IDE in batches, flushed by size or by time,
+ * so a compilation with a lot of diagnostics is not bound by the round-trip per message.
+ * <p>
+ * Class files kept in memory are batched by their total size too, so a batch stays far below the thrift frame limit.
+ * <p>
+ * If a batch can't be delivered, the messages are printed to stderr instead and the compilation is reported as failed,
+ * see {@link #isDelivered()}.
+ */
+public class CompilerMessageBuffer
+{
+	private static final int MAX_BATCH_SIZE = 256;
+	private static final long FLUSH_INTERVAL_MS = 100;
+	private static final int MAX_CLASSES_BATCH_BYTES = 1024 * 1024;
+
+	private final JavaCompilerInterface.Client myClient;
+	private final Timer myTimer;
+
+	private List<CompilerMessage> myMessages = new ArrayList<CompilerMessage>();
+	private List<String> myWrittenFiles = new ArrayList<String>();
+	private List<CompiledClass> myCompiledClasses = new ArrayList<CompiledClass>();
+	private int myCompiledClassesBytes;
+	private TException myDeliveryError;
+
+	public CompilerMessageBuffer(JavaCompilerInterface.Client client)
+	{
+		myClient = client;
+		myTimer = new Timer("Compiler message flusher", true);
+		myTimer.schedule(new TimerTask()
+		{
+			@Override
+			public void run()
+			{
+				flush();
+			}
+		}, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS);
+	}
+
+	public synchronized void addMessage(CompilerMessageKind kind, String message, String fileUri, long lineNumber, long columnNumber)
+	{
+		myMessages.add(new CompilerMessage(kind, message, fileUri, lineNumber, columnNumber));
+		if(myMessages.size() >= MAX_BATCH_SIZE)
+		{
+			flushMessages();
+		}
+	}
+
+	public synchronized void fileWrote(String filePath)
+	{
+		myWrittenFiles.add(filePath);
+		if(myWrittenFiles.size() >= MAX_BATCH_SIZE)
+		{
+			flushWrittenFiles();
+		}
+	}
+
+	public synchronized void classWrote(String filePath, byte[] content)
+	{
+		CompiledClass compiledClass = new CompiledClass();
+		compiledClass.filePath = filePath;
+		// no copy, the content is not changed after the class is written
+		compiledClass.content = ByteBuffer.wrap(content);
+		myCompiledClasses.add(compiledClass);
+		myCompiledClassesBytes += content.length;
+		if(myCompiledClasses.size() >= MAX_BATCH_SIZE || myCompiledClassesBytes >= MAX_CLASSES_BATCH_BYTES)
+		{
+			flushCompiledClasses();
+		}
+	}
+
+	public synchronized void flush()
+	{
+		flushMessages();
+		flushWrittenFiles();
+		flushCompiledClasses();
+	}
+
+	public void dispose()
+	{
+		myTimer.cancel();
+		flush();
+	}
+
+	/**
+	 * Called before each compilation of a session
+	 */
+	public synchronized void startCompilation()
+	{
+		myDeliveryError = null;
+	}
+
+	/**
+	 * @return false if some data of the current compilation was not delivered to the IDE
+	 */
+	public synchronized boolean isDelivered()
+	{
+		return myDeliveryError == null;
+	}
+
+	private void deliveryFailed(TException e)
+	{
+		if(myDeliveryError == null)
+		{
+			myDeliveryError = e;
+			// reported by the output handler as an error of the compilation
+			System.err.println("Error: failed to send compiler output to the IDE: " + e);
+		}
+	}
+
+	private void flushMessages()
+	{
+		if(myMessages.isEmpty())
+		{
+			return;
+		}
+
+		List<CompilerMessage> messages = myMessages;
+		myMessages = new ArrayList<CompilerMessage>();
+		try
+		{
+			myClient.logMessages(messages);
+		}
+		catch(TException e)
+		{
+			deliveryFailed(e);
+			for(CompilerMessage message : messages)
+			{
+				String prefix = message.getKind() == CompilerMessageKind.ERROR ? "Error: " : "";
+				String location = message.getFileUri() == null ? "" : message.getFileUri() + ":" + message.getLineNumber() + ": ";
+				System.err.println(prefix + location + message.getMessage());
+			}
+		}
+	}
+
+	private void flushWrittenFiles()
+	{
+		if(myWrittenFiles.isEmpty())
+		{
+			return;
+		}
+
+		List<String> writtenFiles = myWrittenFiles;
+		myWrittenFiles = new ArrayList<String>();
+		try
+		{
+			myClient.filesWrote(writtenFiles);
+		}
+		catch(TException e)
+		{
+			// the files are on disk, but the IDE does not know about them, so the compilation is failed
+			deliveryFailed(e);
+		}
+	}
+
+	private void flushCompiledClasses()
+	{
+		if(myCompiledClasses.isEmpty())
+		{
+			return;
+		}
+
+		List<CompiledClass> compiledClasses = myCompiledClasses;
+		myCompiledClasses = new ArrayList<CompiledClass>();
+		myCompiledClassesBytes = 0;
+		try
+		{
+			myClient.classesWrote(compiledClasses);
+		}
+		catch(TException e)
+		{
+			// the classes exist only in memory, so they are written to the output directory at least
+			deliveryFailed(e);
+			for(CompiledClass compiledClass : compiledClasses)
+			{
+				writeToDisk(compiledClass);
+			}
+		}
+	}
+
+	private static void writeToDisk(CompiledClass compiledClass)
+	{
+		File file = new File(compiledClass.getFilePath());
+		OutputStream stream = null;
+		try
+		{
+			file.getParentFile().mkdirs();
+			stream = new FileOutputStream(file);
+			stream.write(compiledClass.getContent());
+		}
+		catch(IOException e)
+		{
+			System.err.println("Error: " + e);
+		}
+		finally
+		{
+			if(stream != null)
+			{
+				try
+				{
+					stream.close();
+				}
+				catch(IOException ignored)
+				{
+				}
+			}
+		}
+	}
+}
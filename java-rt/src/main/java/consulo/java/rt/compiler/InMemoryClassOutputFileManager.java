@@ -0,0 +1,61 @@
+package consulo.java.rt.compiler;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Keeps generated class files in memory and passes them to {@link CompilerMessageBuffer} instead of the output directory.
+ * Other output (sources and resources generated by annotation processors) is written as usual.
+ */
+public class InMemoryClassOutputFileManager extends ForwardingJavaFileManager<JavaFileManager>
+{
+	private final CompilerMessageBuffer myBuffer;
+
+	public InMemoryClassOutputFileManager(JavaFileManager fileManager, CompilerMessageBuffer buffer)
+	{
+		super(fileManager);
+		myBuffer = buffer;
+	}
+
+	@Override
+	public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) throws IOException
+	{
+		JavaFileObject fileObject = super.getJavaFileForOutput(location, className, kind, sibling);
+		if(location != StandardLocation.CLASS_OUTPUT || kind != JavaFileObject.Kind.CLASS)
+		{
+			return fileObject;
+		}
+		return new ClassOutputFileObject(fileObject);
+	}
+
+	private class ClassOutputFileObject extends ForwardingJavaFileObject<JavaFileObject>
+	{
+		private ClassOutputFileObject(JavaFileObject fileObject)
+		{
+			super(fileObject);
+		}
+
+		@Override
+		public OutputStream openOutputStream() throws IOException
+		{
+			final String filePath = new File(toUri()).getPath();
+			return new ByteArrayOutputStream()
+			{
+				private boolean myClosed;
+
+				@Override
+				public void close() throws IOException
+				{
+					if(!myClosed)
+					{
+						myClosed = true;
+						myBuffer.classWrote(filePath, toByteArray());
+					}
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,269 @@
+package consulo.java.rt.compiler;
+
+import consulo.java.rt.common.compiler.CompilerMessageKind;
+import consulo.java.rt.common.compiler.JavaCompilerInterface;
+
+import javax.tools.*;
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * Holds javac state which can be reused between compilations: the compiler instance and the file manager with
+ * opened classpath archives. Archives are reopened if any of them was changed since the previous compilation.
+ */
+public class JavacSession
+{
+	private final CompilerMessageBuffer myBuffer;
+	private final JavaCompiler myCompiler;
+	private final DiagnosticListener<JavaFileObject> myDiagnosticListener;
+
+	private StandardJavaFileManager myFileManager;
+	// archives which can be opened by the file manager -> their stamp at the moment of opening
+	private final Map<File, String> myArchiveStamps = new HashMap<File, String>();
+	private boolean myModulePathSet;
+
+	public JavacSession(JavaCompilerInterface.Client client)
+	{
+		myBuffer = new CompilerMessageBuffer(client);
+		myCompiler = ToolProvider.getSystemJavaCompiler();
+		myDiagnosticListener = new DiagnosticListener<JavaFileObject>()
+		{
+			public void report(Diagnostic<? extends JavaFileObject> diagnostic)
+			{
+				String message = diagnostic.getMessage(Locale.getDefault());
+				long lineNumber = diagnostic.getLineNumber();
+				long columnNumber = diagnostic.getColumnNumber();
+				String fileUrl = null;
+				JavaFileObject source = diagnostic.getSource();
+				if(source != null)
+				{
+					fileUrl = source.toUri().toString();
+				}
+
+				switch(diagnostic.getKind())
+				{
+					case ERROR:
+						myBuffer.addMessage(CompilerMessageKind.ERROR, message, fileUrl, lineNumber, columnNumber);
+						break;
+					case NOTE:
+						myBuffer.addMessage(CompilerMessageKind.INFO, message, fileUrl, lineNumber, columnNumber);
+						break;
+					case WARNING:
+					case MANDATORY_WARNING:
+						myBuffer.addMessage(CompilerMessageKind.WARNING, message, fileUrl, lineNumber, columnNumber);
+						break;
+				}
+			}
+		};
+	}
+
+	/**
+	 * @param args compiler arguments, the last one is the list of files to compile
+	 * @return true if compilation succeeded
+	 */
+	public boolean compile(String[] args) throws IOException
+	{
+		String outputDir = null;
+		boolean inMemoryOutput = false;
+
+		Set<File> bootclasspath = Collections.emptySet();
+		Set<File> classpath = Collections.emptySet();
+		Set<File> sourcepath = Collections.emptySet();
+		Set<File> modulePaths = Collections.emptySet();
+
+		List<String> options = new ArrayList<String>();
+
+		// do not eat last paths
+		for(int i = 0; i < (args.length - 1); i++)
+		{
+			String arg = args[i];
+
+			if("-d".equals(arg))
+			{
+				outputDir = args[++i];
+			}
+			else if("-bootclasspath".equals(arg))
+			{
+				bootclasspath = readAllFiles(args[++i]);
+			}
+			else if("-classpath".equals(arg))
+			{
+				classpath = readAllFiles(args[++i]);
+			}
+			else if("-sourcepath".equals(arg))
+			{
+				sourcepath = readAllFiles(args[++i]);
+			}
+			else if("--module-path".equals(arg))
+			{
+				modulePaths = readAllFiles(args[++i]);
+			}
+			else if(JavacRunnerConstants.IN_MEMORY_OUTPUT_OPTION.equals(arg))
+			{
+				inMemoryOutput = true;
+			}
+			else
+			{
+				options.add(arg);
+			}
+		}
+
+		if(outputDir == null)
+		{
+			throw new IllegalArgumentException("output dir not set");
+		}
+
+		String filePaths = args[args.length - 1];
+
+		StandardJavaFileManager standardFileManager = getFileManager(bootclasspath, classpath, modulePaths);
+		standardFileManager.setLocation(StandardLocation.CLASS_OUTPUT, Arrays.asList(new File(outputDir)));
+
+		// locations are set for each compilation, otherwise they stay from the previous one
+		standardFileManager.setLocation(StandardLocation.PLATFORM_CLASS_PATH, bootclasspath.isEmpty() ? null : bootclasspath);
+		standardFileManager.setLocation(StandardLocation.CLASS_PATH, classpath.isEmpty() ? null : classpath);
+		standardFileManager.setLocation(StandardLocation.SOURCE_PATH, sourcepath.isEmpty() ? null : sourcepath);
+
+		if(!modulePaths.isEmpty())
+		{
+			standardFileManager.setLocation(StandardLocationWrapper.MODULE_PATH(), modulePaths);
+			myModulePathSet = true;
+		}
+		else if(myModulePathSet)
+		{
+			standardFileManager.setLocation(StandardLocationWrapper.MODULE_PATH(), null);
+			myModulePathSet = false;
+		}
+
+		List<String> classes = new ArrayList<String>();
+
+		Set<File> files = readAllFiles(filePaths);
+
+		Iterable<? extends JavaFileObject> javaFileObjects = standardFileManager.getJavaFileObjects(files.toArray(new File[files.size()]));
+
+		myBuffer.startCompilation();
+
+		PrintWriter out = new PrintWriter(System.out);
+		boolean success;
+		try
+		{
+			JavaFileManager fileManager = inMemoryOutput ? new InMemoryClassOutputFileManager(standardFileManager, myBuffer) : standardFileManager;
+
+			JavaCompiler.CompilationTask task = myCompiler.getTask(out, fileManager, myDiagnosticListener, options, classes, javaFileObjects);
+
+			// in memory classes are reported with their content
+			OracleJavacLogHack.tryToInject(task, myBuffer, !inMemoryOutput);
+
+			success = task.call();
+		}
+		finally
+		{
+			out.flush();
+			standardFileManager.flush();
+			// all the messages should be delivered before the compilation is reported as finished
+			myBuffer.flush();
+		}
+		// diagnostics which did not reach the IDE should not leave the build green
+		return success && myBuffer.isDelivered();
+	}
+
+	public void dispose() throws IOException
+	{
+		resetFileManager();
+		myBuffer.dispose();
+	}
+
+	/**
+	 * Closes the file manager with all the opened archives, the next compilation will use a new one
+	 */
+	public void resetFileManager() throws IOException
+	{
+		if(myFileManager != null)
+		{
+			myFileManager.close();
+			myFileManager = null;
+			myModulePathSet = false;
+			myArchiveStamps.clear();
+		}
+	}
+
+	private StandardJavaFileManager getFileManager(Set<File> bootclasspath, Set<File> classpath, Set<File> modulePaths) throws IOException
+	{
+		Map<File, String> stamps = new HashMap<File, String>();
+		collectArchiveStamps(bootclasspath, stamps);
+		collectArchiveStamps(classpath, stamps);
+		collectArchiveStamps(modulePaths, stamps);
+
+		if(myFileManager != null && !isUpToDate(stamps))
+		{
+			resetFileManager();
+		}
+		myArchiveStamps.putAll(stamps);
+
+		if(myFileManager == null)
+		{
+			myFileManager = myCompiler.getStandardFileManager(myDiagnosticListener, Locale.getDefault(), Charset.forName("UTF-8"));
+		}
+		return myFileManager;
+	}
+
+	private boolean isUpToDate(Map<File, String> stamps)
+	{
+		for(Map.Entry<File, String> entry : stamps.entrySet())
+		{
+			String oldStamp = myArchiveStamps.get(entry.getKey());
+			if(oldStamp != null && !oldStamp.equals(entry.getValue()))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void collectArchiveStamps(Set<File> files, Map<File, String> stamps)
+	{
+		for(File file : files)
+		{
+			if(file.isFile())
+			{
+				stamps.put(file, file.lastModified() + ":" + file.length());
+			}
+		}
+	}
+
+	static Set<File> readAllFiles(String pathWithAt) throws IOException
+	{
+		if(pathWithAt.length() == 0 || pathWithAt.equals("\"\""))
+		{
+			return Collections.emptySet();
+		}
+
+		Set<File> files = new LinkedHashSet<File>();
+
+		if(!pathWithAt.startsWith("@"))
+		{
+			return Collections.singleton(new File(pathWithAt));
+		}
+
+		String path = pathWithAt.substring(1);
+
+		BufferedReader reader = null;
+		try
+		{
+			reader = new BufferedReader(new FileReader(new File(path)));
+			for(String filePath = reader.readLine(); filePath != null; filePath = reader.readLine())
+			{
+				files.add(new File(filePath));
+			}
+		}
+		finally
+		{
+			if(reader != null)
+			{
+				reader.close();
+			}
+		}
+
+		return files;
+	}
+}
@@ -1,14 +1,13 @@
 package consulo.java.rt.compiler;
 
 import consulo.java.rt.common.compiler.JavaCompilerInterface;
-import org.apache.thrift.TException;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.layered.TFramedTransport;
 
-import javax.tools.*;
 import java.io.*;
-import java.nio.charset.Charset;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author VISTALL
@@ -20,176 +19,114 @@ public class NewJavaRunner
 {
 	public static void main(String[] args) throws Exception
 	{
-		String outputDir = null;
-
-		Set<File> bootclasspath = Collections.emptySet();
-		Set<File> classpath = Collections.emptySet();
-		Set<File> sourcepath = Collections.emptySet();
-		Set<File> modulePaths = Collections.emptySet();
-
-		List<String> options = new ArrayList<String>();
-
-		// do not eat last paths
-		for(int i = 0; i < (args.length - 1); i++)
+		if(Boolean.getBoolean(JavacDaemonConstants.DAEMON_PROPERTY))
 		{
-			String arg = args[i];
-
-			if("-d".equals(arg))
-			{
-				outputDir = args[++i];
-			}
-			else if("-bootclasspath".equals(arg))
-			{
-				bootclasspath = readAllFiles(args[++i]);
-			}
-			else if("-classpath".equals(arg))
-			{
-				classpath = readAllFiles(args[++i]);
-			}
-			else if("-sourcepath".equals(arg))
-			{
-				sourcepath = readAllFiles(args[++i]);
-			}
-			else if("--module-path".equals(arg))
-			{
-				modulePaths = readAllFiles(args[++i]);
-			}
-			else
-			{
-				options.add(arg);
-			}
+			runDaemon();
+			return;
 		}
 
 		int port = Integer.parseInt(System.getProperty("consulo.port"));
 
-		TSocket socket = new TSocket("localhost", port);
-
-		final JavaCompilerInterface.Client client = new JavaCompilerInterface.Client(new TBinaryProtocol(socket));
-
-		socket.open();
-
-		if(outputDir == null)
-		{
-			throw new IllegalArgumentException("output dir not set");
-		}
-
-		String filePaths = args[args.length - 1];
+		TFramedTransport transport = new TFramedTransport(new TSocket("localhost", port));
 
-		JavaCompiler systemJavaCompiler = ToolProvider.getSystemJavaCompiler();
+		JavaCompilerInterface.Client client = new JavaCompilerInterface.Client(new TBinaryProtocol(transport));
 
-		DiagnosticListener<JavaFileObject> diagnosticListener = new DiagnosticListener<JavaFileObject>()
-		{
-			public void report(Diagnostic<? extends JavaFileObject> diagnostic)
-			{
-				String message = diagnostic.getMessage(Locale.getDefault());
-				long lineNumber = diagnostic.getLineNumber();
-				long columnNumber = diagnostic.getColumnNumber();
-				String fileUrl = null;
-				JavaFileObject source = diagnostic.getSource();
-				if(source != null)
-				{
-					fileUrl = source.toUri().toString();
-				}
+		transport.open();
 
-				switch(diagnostic.getKind())
-				{
-					case ERROR:
-						try
-						{
-							client.logError(message, fileUrl, lineNumber, columnNumber);
-						}
-						catch(TException ignored)
-						{
-						}
-						break;
-					case NOTE:
-						try
-						{
-							client.logInfo(message, fileUrl, lineNumber, columnNumber);
-						}
-						catch(TException ignored)
-						{
-						}
-						break;
-					case WARNING:
-					case MANDATORY_WARNING:
-						try
-						{
-							client.logWarning(message, fileUrl, lineNumber, columnNumber);
-						}
-						catch(TException ignored)
-						{
-						}
-						break;
-				}
-			}
-		};
+		JavacSession session = new JavacSession(client);
 
-		final StandardJavaFileManager standardFileManager = systemJavaCompiler.getStandardFileManager(diagnosticListener, Locale.getDefault(), Charset.forName("UTF-8"));
-		standardFileManager.setLocation(StandardLocation.CLASS_OUTPUT, Arrays.asList(new File(outputDir)));
+		boolean success = session.compile(args);
 
-		if(!bootclasspath.isEmpty())
-		{
-			standardFileManager.setLocation(StandardLocation.PLATFORM_CLASS_PATH, bootclasspath);
-		}
+		session.dispose();
+		transport.close();
 
-		if(!classpath.isEmpty())
+		if(!success)
 		{
-			standardFileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+			throw new IllegalArgumentException("compilation failed");
 		}
+	}
 
-		if(!sourcepath.isEmpty())
-		{
-			standardFileManager.setLocation(StandardLocation.SOURCE_PATH, sourcepath);
-		}
+	/**
+	 * Keeps the JVM, javac and opened classpath archives warm between compilations, see {@link JavacDaemonConstants}.
+	 */
+	private static void runDaemon() throws Exception
+	{
+		BufferedReader input = new BufferedReader(new InputStreamReader(System.in, "UTF-8"));
 
-		if(!modulePaths.isEmpty())
+		String portLine = input.readLine();
+		if(portLine == null)
 		{
-			standardFileManager.setLocation(StandardLocationWrapper.MODULE_PATH(), modulePaths);
+			return;
 		}
 
-		List<String> classes = new ArrayList<String>();
+		TFramedTransport transport = new TFramedTransport(new TSocket("localhost", Integer.parseInt(portLine.trim())));
 
-		Set<File> files = readAllFiles(filePaths);
+		JavaCompilerInterface.Client client = new JavaCompilerInterface.Client(new TBinaryProtocol(transport));
 
-		Iterable<? extends JavaFileObject> javaFileObjects = standardFileManager.getJavaFileObjects(files.toArray(new File[files.size()]));
+		transport.open();
 
-		JavaCompiler.CompilationTask task = systemJavaCompiler.getTask(new PrintWriter(System.out), standardFileManager, diagnosticListener, options, classes, javaFileObjects);
+		IdleWatcher idleWatcher = new IdleWatcher(Long.getLong(JavacDaemonConstants.IDLE_TIMEOUT_PROPERTY, JavacDaemonConstants.DEFAULT_IDLE_TIMEOUT));
+		idleWatcher.start();
 
-		OracleJavacLogHack.tryToInject(task, client);
-		
-		if(!task.call())
+		JavacSession session = new JavacSession(client);
+		try
 		{
-			socket.close();
-			throw new IllegalArgumentException("compilation failed");
-		}
+			for(String line = input.readLine(); line != null; line = input.readLine())
+			{
+				if(JavacDaemonConstants.EXIT_COMMAND.equals(line))
+				{
+					break;
+				}
 
-		socket.close();
-	}
+				if(line.length() == 0)
+				{
+					continue;
+				}
 
-	private static Set<File> readAllFiles(String pathWithAt) throws IOException
-	{
-		if(pathWithAt.length() == 0 || pathWithAt.equals("\"\""))
-		{
-			return Collections.emptySet();
-		}
+				idleWatcher.setBusy(true);
 
-		Set<File> files = new LinkedHashSet<File>();
+				int exitCode;
+				try
+				{
+					exitCode = session.compile(readArguments(line)) ? JavacDaemonConstants.EXIT_CODE_OK : JavacDaemonConstants.EXIT_CODE_FAILED;
+				}
+				catch(Throwable e)
+				{
+					System.out.println("Error: " + e);
+					e.printStackTrace(System.out);
+					// drop possibly broken state
+					session.resetFileManager();
+					exitCode = JavacDaemonConstants.EXIT_CODE_ERROR;
+				}
+				finally
+				{
+					idleWatcher.setBusy(false);
+				}
 
-		if(!pathWithAt.startsWith("@"))
+				System.out.println();
+				System.out.println(JavacDaemonConstants.MSG_COMPILATION_FINISHED + exitCode);
+				System.out.flush();
+			}
+		}
+		finally
 		{
-			return Collections.singleton(new File(pathWithAt));
+			session.dispose();
+			transport.close();
 		}
 
-		String path = pathWithAt.substring(1);
+		System.exit(0);
+	}
 
+	private static String[] readArguments(String argumentsFile) throws IOException
+	{
+		List<String> args = new ArrayList<String>();
 		BufferedReader reader = null;
 		try
 		{
-			reader = new BufferedReader(new FileReader(new File(path)));
-			for(String filePath = reader.readLine(); filePath != null; filePath = reader.readLine())
+			reader = new BufferedReader(new InputStreamReader(new FileInputStream(argumentsFile), "UTF-8"));
+			for(String arg = reader.readLine(); arg != null; arg = reader.readLine())
 			{
-				files.add(new File(filePath));
+				args.add(arg);
 			}
 		}
 		finally
@@ -199,7 +136,50 @@ public class NewJavaRunner
 				reader.close();
 			}
 		}
+		return args.toArray(new String[args.size()]);
+	}
 
-		return files;
+	/**
+	 * Stops the daemon if there were no compilations for the given time, so forgotten daemons don't hold memory
+	 */
+	private static class IdleWatcher extends Thread
+	{
+		private final long myTimeout;
+		private volatile boolean myBusy;
+		private volatile long myLastActivity = System.currentTimeMillis();
+
+		private IdleWatcher(long timeout)
+		{
+			super("Javac daemon idle watcher");
+			myTimeout = timeout;
+			setDaemon(true);
+		}
+
+		public void setBusy(boolean busy)
+		{
+			myBusy = busy;
+			myLastActivity = System.currentTimeMillis();
+		}
+
+		@Override
+		public void run()
+		{
+			while(true)
+			{
+				try
+				{
+					Thread.sleep(Math.min(myTimeout, 60 * 1000L));
+				}
+				catch(InterruptedException e)
+				{
+					return;
+				}
+
+				if(!myBusy && System.currentTimeMillis() - myLastActivity > myTimeout)
+				{
+					System.exit(0);
+				}
+			}
+		}
 	}
 }
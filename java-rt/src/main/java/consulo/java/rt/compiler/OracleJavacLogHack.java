@@ -2,8 +2,6 @@ package consulo.java.rt.compiler;
 
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
-import consulo.java.rt.common.compiler.JavaCompilerInterface;
-import org.apache.thrift.TException;
 
 import javax.tools.JavaCompiler;
 import javax.tools.JavaFileObject;
@@ -19,12 +17,14 @@ public class OracleJavacLogHack
 {
 	private static class OracleJavacLog extends Log
 	{
-		private final JavaCompilerInterface.Client myClient;
+		private final CompilerMessageBuffer myBuffer;
+		private final boolean myReportWrittenFiles;
 
-		public OracleJavacLog(Context context, JavaCompilerInterface.Client client)
+		public OracleJavacLog(Context context, CompilerMessageBuffer buffer, boolean reportWrittenFiles)
 		{
 			super(context);
-			myClient = client;
+			myBuffer = buffer;
+			myReportWrittenFiles = reportWrittenFiles;
 		}
 
 		@Override
@@ -32,35 +32,23 @@ public class OracleJavacLogHack
 		{
 			//super.printVerbose(key, args);
 
-			if("wrote.file".equals(key))
+			if(myReportWrittenFiles && "wrote.file".equals(key))
 			{
 				// may string or java file object
 				Object arg = args[0];
 				if(arg instanceof String)
 				{
-					try
-					{
-						myClient.fileWrote((String) arg);
-					}
-					catch(TException ignored)
-					{
-					}
+					myBuffer.fileWrote((String) arg);
 				}
 				else if(arg instanceof JavaFileObject)
 				{
-					try
-					{
-						myClient.fileWrote(((JavaFileObject) arg).getName());
-					}
-					catch(TException ignored)
-					{
-					}
+					myBuffer.fileWrote(((JavaFileObject) arg).getName());
 				}
 			}
 		}
 	}
 
-	public static void tryToInject(JavaCompiler.CompilationTask compilationTask, JavaCompilerInterface.Client client)
+	public static void tryToInject(JavaCompiler.CompilationTask compilationTask, CompilerMessageBuffer buffer, boolean reportWrittenFiles)
 	{
 		try
 		{
@@ -77,7 +65,7 @@ public class OracleJavacLogHack
 
 			map.remove(Log.logKey);
 
-			new OracleJavacLog(context, client);
+			new OracleJavacLog(context, buffer, reportWrittenFiles);
 		}
 		catch(IllegalArgumentException e)
 		{
@@ -0,0 +1,101 @@
+package com.intellij.java.impl.codeInspection.bytecodeAnalysis;
+
+import com.intellij.java.analysis.impl.codeInspection.bytecodeAnalysis.BytecodeAnalysisBundles;
+import consulo.annotation.component.ActionImpl;
+import consulo.annotation.component.ActionParentRef;
+import consulo.annotation.component.ActionRef;
+import consulo.application.progress.ProgressIndicator;
+import consulo.application.progress.ProgressManager;
+import consulo.application.progress.Task;
+import consulo.localize.LocalizeValue;
+import consulo.project.Project;
+import consulo.ui.annotation.RequiredUIAccess;
+import consulo.ui.ex.action.AnAction;
+import consulo.ui.ex.action.AnActionEvent;
+import consulo.ui.ex.action.IdeActions;
+import consulo.ui.ex.awt.Messages;
+import consulo.virtualFileSystem.VirtualFile;
+import consulo.virtualFileSystem.archive.ArchiveVfsUtil;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the bytecode analysis results of the selected jars (or class directories) into the bundles directory set by
+ * {@value BytecodeAnalysisBundles#BUNDLES_DIRECTORY_PROPERTY} system property, so other installations pointed to the
+ * same directory skip the analysis of these class files. The action is hidden when the property is not set.
+ */
+@ActionImpl(id = "ExportBytecodeAnalysisBundles", parents = @ActionParentRef(@ActionRef(id = IdeActions.GROUP_PROJECT_VIEW_POPUP)))
+public class ExportBytecodeAnalysisBundlesAction extends AnAction {
+    private static final LocalizeValue TITLE = LocalizeValue.localizeTODO("Export Bytecode Analysis Bundles");
+
+    public ExportBytecodeAnalysisBundlesAction() {
+        super(TITLE, LocalizeValue.localizeTODO("Export inferred annotations of the selected class files to the bundles directory"));
+    }
+
+    @Override
+    public void update(AnActionEvent e) {
+        boolean visible = e.hasData(Project.KEY)
+            && System.getProperty(BytecodeAnalysisBundles.BUNDLES_DIRECTORY_PROPERTY) != null
+            && hasRoots(e.getData(VirtualFile.KEY_OF_ARRAY));
+        e.getPresentation().setEnabledAndVisible(visible);
+    }
+
+    @Override
+    @RequiredUIAccess
+    public void actionPerformed(AnActionEvent e) {
+        Project project = e.getRequiredData(Project.KEY);
+        VirtualFile[] files = e.getRequiredData(VirtualFile.KEY_OF_ARRAY);
+        Path directory = Paths.get(System.getProperty(BytecodeAnalysisBundles.BUNDLES_DIRECTORY_PROPERTY));
+
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, TITLE.get(), true) {
+            private int myExported;
+
+            @Override
+            public void run(ProgressIndicator indicator) {
+                try {
+                    Files.createDirectories(directory);
+                    for (VirtualFile file : files) {
+                        VirtualFile root = getRoot(file);
+                        if (root != null) {
+                            indicator.setText2(file.getPresentableUrl());
+                            myExported += BytecodeAnalysisBundles.export(root, directory);
+                        }
+                    }
+                }
+                catch (IOException ex) {
+                    throw new RuntimeException("Cannot export bytecode analysis bundles to " + directory, ex);
+                }
+            }
+
+            @Override
+            @RequiredUIAccess
+            public void onSuccess() {
+                Messages.showInfoMessage(project, "Exported " + myExported + " class files to " + directory, TITLE.get());
+            }
+        });
+    }
+
+    private static boolean hasRoots(VirtualFile[] files) {
+        if (files == null) {
+            return false;
+        }
+        for (VirtualFile file : files) {
+            if (getRoot(file) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static VirtualFile getRoot(VirtualFile file) {
+        if (file.isDirectory()) {
+            return file;
+        }
+        return ArchiveVfsUtil.getArchiveRootForLocalFile(file);
+    }
+}
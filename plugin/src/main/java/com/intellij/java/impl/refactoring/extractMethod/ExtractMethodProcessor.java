@@ -446,6 +446,7 @@ public class ExtractMethodProcessor implements MatchProvider {
     @RequiredReadAction
     private static Nullability inferNullability(PsiCodeBlock block, PsiExpression expr) {
         DataFlowRunner dfaRunner = new DataFlowRunner(block.getProject());
+        dfaRunner.setMetricsClientId("ExtractMethod");
 
         class Visitor extends StandardInstructionVisitor {
             DfaNullability myNullability = DfaNullability.NOT_NULL;
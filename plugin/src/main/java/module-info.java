@@ -110,6 +110,7 @@ open module consulo.java {
     exports com.intellij.java.impl.codeInspection;
     exports com.intellij.java.impl.codeInspection.accessStaticViaInstance;
     exports com.intellij.java.impl.codeInspection.actions;
+    exports com.intellij.java.impl.codeInspection.bytecodeAnalysis;
     exports com.intellij.java.impl.codeInspection.canBeFinal;
     exports com.intellij.java.impl.codeInspection.compiler;
     exports com.intellij.java.impl.codeInspection.concurrencyAnnotations;